@@ -0,0 +1,65 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the service responses the benchmarks feed through the translation code.
+ */
+final class BenchmarkData {
+    private BenchmarkData() {
+    }
+
+    static Map<String, String> tags(final int count, final String valuePrefix) {
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            tags.put("tag-key-" + i, valuePrefix + i);
+        }
+        return tags;
+    }
+
+    /**
+     * Build a listed virtual cluster. Like in a real account, clusters are spread over 100 EKS clusters that reuse
+     * the same namespace names, and every object is a separate instance as if freshly unmarshalled.
+     *
+     * @param index
+     * @param tagCount
+     * @return
+     */
+    static VirtualCluster virtualCluster(final int index, final int tagCount) {
+        final software.amazon.awssdk.services.emrcontainers.model.EksInfo eksInfo =
+                software.amazon.awssdk.services.emrcontainers.model.EksInfo.builder()
+                        .namespace("namespace-" + index / 100)
+                        .build();
+        final software.amazon.awssdk.services.emrcontainers.model.ContainerProvider containerProvider =
+                software.amazon.awssdk.services.emrcontainers.model.ContainerProvider.builder()
+                        .id("eks-cluster-" + index % 100)
+                        .type("EKS")
+                        .info(software.amazon.awssdk.services.emrcontainers.model.ContainerInfo.builder()
+                                .eksInfo(eksInfo)
+                                .build())
+                        .build();
+
+        return VirtualCluster.builder()
+                .id("vc" + index)
+                .name("virtual-cluster-" + index)
+                .arn("arn:aws:emr-containers:us-east-1:123456789012:/virtualclusters/vc" + index)
+                .state(VirtualClusterState.RUNNING)
+                .containerProvider(containerProvider)
+                .tags(tags(tagCount, "value-"))
+                .build();
+    }
+
+    static List<VirtualCluster> virtualClusters(final int count, final int tagCount) {
+        final List<VirtualCluster> virtualClusters = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            virtualClusters.add(virtualCluster(i, tagCount));
+        }
+        return virtualClusters;
+    }
+}
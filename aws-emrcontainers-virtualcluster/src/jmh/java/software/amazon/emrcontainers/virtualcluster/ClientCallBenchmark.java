@@ -0,0 +1,103 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import com.amazonaws.services.emrcontainers.AmazonEMRContainers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersRequest;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warm per-call latency of the v2 client the handlers use and of the v1 client they used before, with credentials
+ * injected through the client proxy, against a local stub of the EMR Containers endpoint. The result covers
+ * marshalling, signing and the HTTP client; the network is a loopback round trip.
+ *
+ * <p>Run with {@code mvn -P benchmark verify -Djmh.includes=ClientCallBenchmark -Djmh.profilers=gc}.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientCallBenchmark {
+    private static final String REGION = "us-east-1";
+
+    @Param({"V1", "V2"})
+    private String sdk;
+
+    private StubEmrContainersEndpoint stub;
+    private AmazonWebServicesClientProxy proxy;
+    private AmazonEMRContainers v1Client;
+    private EmrContainersClient client;
+    private ProxyClient<EmrContainersClient> proxyClient;
+
+    @Setup
+    public void setup() throws Exception {
+        stub = StubEmrContainersEndpoint.start();
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                () -> TimeUnit.MINUTES.toMillis(15));
+        if ("V1".equals(sdk)) {
+            v1Client = V1ClientBuilder.buildClient(REGION, stub.getEndpoint());
+        } else {
+            client = ClientBuilder.buildClient(REGION, stub.getEndpoint());
+            proxyClient = proxy.newProxy(() -> client);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (v1Client != null) {
+            v1Client.shutdown();
+        }
+        if (client != null) {
+            client.close();
+        }
+        stub.close();
+    }
+
+    @Benchmark
+    public Object describeVirtualCluster() {
+        if (v1Client != null) {
+            return proxy.injectCredentialsAndInvoke(
+                    new com.amazonaws.services.emrcontainers.model.DescribeVirtualClusterRequest()
+                            .withId(StubEmrContainersEndpoint.VIRTUAL_CLUSTER_ID),
+                    v1Client::describeVirtualCluster);
+        }
+        return proxyClient.injectCredentialsAndInvokeV2(
+                DescribeVirtualClusterRequest.builder().id(StubEmrContainersEndpoint.VIRTUAL_CLUSTER_ID).build(),
+                client::describeVirtualCluster);
+    }
+
+    @Benchmark
+    public Object listVirtualClusters() {
+        if (v1Client != null) {
+            return proxy.injectCredentialsAndInvoke(
+                    new com.amazonaws.services.emrcontainers.model.ListVirtualClustersRequest()
+                            .withStates("RUNNING")
+                            .withMaxResults(50),
+                    v1Client::listVirtualClusters);
+        }
+        return proxyClient.injectCredentialsAndInvokeV2(
+                ListVirtualClustersRequest.builder().states(VirtualClusterState.RUNNING).maxResults(50).build(),
+                client::listVirtualClusters);
+    }
+}
@@ -0,0 +1,47 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of listed virtual clusters to resource models as done by {@link ListHandler} and the batch reader.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListMappingBenchmark {
+
+    @Param({"10000"})
+    private int clusterCount;
+
+    @Param({"5"})
+    private int tagCount;
+
+    private List<VirtualCluster> virtualClusters;
+
+    @Setup
+    public void setup() {
+        virtualClusters = BenchmarkData.virtualClusters(clusterCount, tagCount);
+    }
+
+    @Benchmark
+    public List<ResourceModel> toResourceModels() {
+        return Translator.toResourceModels(virtualClusters);
+    }
+}
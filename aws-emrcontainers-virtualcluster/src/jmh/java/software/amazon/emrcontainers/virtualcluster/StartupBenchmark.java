@@ -0,0 +1,111 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from a cold JVM to the first response of each handler, the latency a request sees when CloudFormation
+ * starts a new container. Every measurement runs in a fresh fork and the handler talks to a local stub of the
+ * EMR Containers endpoint, so the result is dominated by class loading and initialization rather than by the
+ * network.
+ *
+ * <p>With {@code primed=true} the fork first runs {@link SnapStartPriming#prime()} and the restore hook, so the
+ * measurement approximates the first response after a SnapStart restore. It cannot include the restore itself;
+ * the README shows how to measure restore to first response from the function's logs.
+ *
+ * <p>Run with {@code mvn -P benchmark verify -Djmh.includes=StartupBenchmark -Djmh.profilers=cl}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+    private static final String REGION = "us-east-1";
+
+    @Param({"CREATE", "READ", "UPDATE", "DELETE", "LIST"})
+    private String action;
+
+    @Param({"false", "true"})
+    private boolean primed;
+
+    private StubEmrContainersEndpoint stub;
+
+    @Setup
+    public void startStubEndpoint() throws Exception {
+        if (primed) {
+            SnapStartPriming.prime();
+            new SnapStartPriming().afterRestore(null);
+        }
+        stub = StubEmrContainersEndpoint.start();
+    }
+
+    @TearDown
+    public void stopStubEndpoint() {
+        stub.close();
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> firstResponse() {
+        ClientBuilder.setClient(ClientBuilder.buildClient(REGION, stub.getEndpoint()));
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                () -> TimeUnit.MINUTES.toMillis(15));
+        final LoggerProxy logger = new LoggerProxy();
+
+        switch (action) {
+            case "CREATE":
+                return new CreateHandler().handleRequest(proxy, request(ResourceModel.builder()
+                        .name("startup-benchmark")
+                        .containerProvider(ContainerProvider.builder()
+                                .id(StubEmrContainersEndpoint.EKS_CLUSTER_ID)
+                                .type("EKS")
+                                .info(ContainerInfo.builder()
+                                        .eksInfo(EksInfo.builder().namespace(StubEmrContainersEndpoint.NAMESPACE).build())
+                                        .build())
+                                .build())
+                        .build()), null, logger);
+            case "READ":
+                return new ReadHandler().handleRequest(proxy, request(existingModel()), null, logger);
+            case "UPDATE":
+                return new UpdateHandler().handleRequest(proxy, request(existingModel()), null, logger);
+            case "DELETE":
+                return new DeleteHandler(0L, 0L).handleRequest(proxy, request(existingModel()), null, logger);
+            case "LIST":
+                return new ListHandler().handleRequest(proxy, request(ResourceModel.builder().build()), null, logger);
+            default:
+                throw new IllegalArgumentException("Unknown action " + action);
+        }
+    }
+
+    private static ResourceModel existingModel() {
+        return ResourceModel.builder().id(StubEmrContainersEndpoint.VIRTUAL_CLUSTER_ID).build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region(REGION)
+                .awsAccountId("123456789012")
+                .clientRequestToken("startup-benchmark")
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tag reconciliation done by {@link UpdateHandler}: half of the desired tags keep their value, a quarter are
+ * re-valued and a quarter are new, and as many existing keys are dropped.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TagDiffBenchmark {
+
+    @Param({"0", "10", "50"})
+    private int tagCount;
+
+    private Map<String, String> existingTags;
+    private Map<String, String> desiredTags;
+
+    @Setup
+    public void setup() {
+        existingTags = new HashMap<>();
+        desiredTags = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            final String key = "tag-key-" + i;
+            if (i % 2 == 0) {
+                existingTags.put(key, "value");
+                desiredTags.put(key, "value");
+            } else if (i % 4 == 1) {
+                existingTags.put(key, "old-value");
+                desiredTags.put(key, "new-value");
+            } else {
+                existingTags.put("removed-" + key, "value");
+                desiredTags.put(key, "value");
+            }
+        }
+    }
+
+    @Benchmark
+    public TagDiff diff() {
+        return TagDiff.between(existingTags, desiredTags);
+    }
+}
@@ -0,0 +1,66 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translation between service responses and resource models, run on every Read, Update and List invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranslatorBenchmark {
+
+    @Param({"0", "10", "50"})
+    private int tagCount;
+
+    private VirtualCluster virtualCluster;
+    private ContainerProvider containerProvider;
+    private Map<String, String> tagMap;
+    private Set<Tag> tagSet;
+
+    @Setup
+    public void setup() {
+        virtualCluster = BenchmarkData.virtualCluster(0, tagCount);
+        containerProvider = Translator.translate(virtualCluster.containerProvider());
+        tagMap = BenchmarkData.tags(tagCount, "value-");
+        tagSet = Translator.toTagSet(tagMap);
+    }
+
+    @Benchmark
+    public ResourceModel virtualClusterToModel() {
+        return Translator.translate(virtualCluster);
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.emrcontainers.model.ContainerProvider containerProviderToSdk() {
+        return Translator.translate(containerProvider);
+    }
+
+    @Benchmark
+    public Set<Tag> toTagSet() {
+        return Translator.toTagSet(tagMap);
+    }
+
+    @Benchmark
+    public Map<String, String> toTagMap() {
+        return Translator.toTagMap(tagSet);
+    }
+}
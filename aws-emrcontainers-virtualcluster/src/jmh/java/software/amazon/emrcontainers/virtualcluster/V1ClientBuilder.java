@@ -0,0 +1,45 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.emrcontainers.AmazonEMRContainers;
+import com.amazonaws.services.emrcontainers.AmazonEMRContainersClientBuilder;
+
+/**
+ * Builds the SDK v1 client the handlers ran on before moving to SDK v2, configured the way {@link ClientBuilder}
+ * configured it, so benchmarks can compare call latency against the v2 client.
+ */
+final class V1ClientBuilder {
+    private static final RetryPolicy RETRY_POLICY = new RetryPolicy(
+            (originalRequest, exception, retriesAttempted) -> !RetryUtils.isThrottlingException(exception)
+                    && PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION.shouldRetry(originalRequest, exception, retriesAttempted),
+            PredefinedRetryPolicies.DEFAULT_BACKOFF_STRATEGY,
+            PredefinedRetryPolicies.DEFAULT_MAX_ERROR_RETRY,
+            true);
+
+    private V1ClientBuilder() {
+    }
+
+    /**
+     * Build a client on the SDK v1 HTTP stack.
+     *
+     * @param region
+     * @param endpoint
+     * @return
+     */
+    static AmazonEMRContainers buildClient(final String region, final String endpoint) {
+        final AmazonEMRContainersClientBuilder builder = AmazonEMRContainersClientBuilder.standard()
+                .withClientConfiguration(new ClientConfiguration()
+                        .withTcpKeepAlive(true)
+                        .withRetryPolicy(RETRY_POLICY));
+        if (endpoint != null) {
+            builder.setEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region));
+        } else if (region != null) {
+            builder.setRegion(region);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,279 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the virtual clusters of a manifest, one per EKS namespace, through the same create path CloudFormation
+ * uses, and tracks each of them to RUNNING. At most {@code concurrency} clusters are provisioned at once; all of
+ * them share the container's client and the invoker's rate limiter. Client tokens are derived from the manifest
+ * entries, so running the same manifest again does not create duplicate clusters.
+ *
+ * <pre>
+ * java -cp target/aws-emrcontainers-virtualcluster-handler-1.0-SNAPSHOT.jar \
+ *     software.amazon.emrcontainers.virtualcluster.BulkProvisioner manifest.json us-east-1 8
+ * </pre>
+ */
+@AllArgsConstructor
+@Builder
+public class BulkProvisioner {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private AmazonWebServicesClientProxy proxy;
+    private String region;
+    private String awsAccountId;
+    @Builder.Default private int concurrency = Constants.BULK_PROVISIONING_CONCURRENCY;
+    @Builder.Default private CreateHandler createHandler = new CreateHandler();
+    @Builder.Default private Logger logger = new LoggerProxy();
+
+    /**
+     * One virtual cluster to create.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ManifestEntry {
+        private String name;
+        private String eksClusterId;
+        private String namespace;
+        private Map<String, String> tags;
+    }
+
+    /**
+     * Outcome of one manifest entry.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ItemResult {
+        private final ManifestEntry entry;
+        private final ResourceModel model;
+        private final HandlerErrorCode errorCode;
+        private final String message;
+        private final long elapsedMillis;
+
+        public boolean isSucceeded() {
+            return errorCode == null;
+        }
+
+        @Override
+        public String toString() {
+            return isSucceeded()
+                    ? String.format("%s/%s: %s RUNNING after %d ms", entry.getEksClusterId(), entry.getNamespace(),
+                            model.getId(), elapsedMillis)
+                    : String.format("%s/%s: %s %s", entry.getEksClusterId(), entry.getNamespace(), errorCode, message);
+        }
+    }
+
+    /**
+     * Outcome of a manifest.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Report {
+        private final List<ItemResult> results;
+        private final long elapsedMillis;
+
+        public long getSucceeded() {
+            return results.stream().filter(ItemResult::isSucceeded).count();
+        }
+
+        public long getFailed() {
+            return results.size() - getSucceeded();
+        }
+
+        public double getClustersPerSecond() {
+            return elapsedMillis == 0 ? 0 : getSucceeded() * 1000.0 / elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder report = new StringBuilder();
+            for (ItemResult result : results) {
+                report.append(result).append('\n');
+            }
+            return report.append(String.format("%d succeeded, %d failed in %d ms (%.2f clusters/s)",
+                    getSucceeded(), getFailed(), elapsedMillis, getClustersPerSecond())).toString();
+        }
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.err.println("Usage: BulkProvisioner <manifest.json> <region> [concurrency]");
+            System.exit(2);
+        }
+
+        final AwsCredentials awsCredentials = DefaultCredentialsProvider.create().resolveCredentials();
+        final Credentials credentials = new Credentials(awsCredentials.accessKeyId(), awsCredentials.secretAccessKey(),
+                awsCredentials instanceof AwsSessionCredentials ? ((AwsSessionCredentials) awsCredentials).sessionToken() : null);
+        final Report report = BulkProvisioner.builder()
+                .proxy(new AmazonWebServicesClientProxy(new LoggerProxy(), credentials, () -> Long.MAX_VALUE))
+                .region(args[1])
+                .awsAccountId(accountId(awsCredentials, args[1]))
+                .concurrency(args.length > 2 ? Integer.parseInt(args[2]) : Constants.BULK_PROVISIONING_CONCURRENCY)
+                .build()
+                .provision(readManifest(Paths.get(args[0])));
+        System.out.println(report);
+        System.exit(report.getFailed() == 0 ? 0 : 1);
+    }
+
+    /**
+     * Look up the account the credentials belong to, which CloudFormation would otherwise put in the request.
+     *
+     * @param awsCredentials
+     * @param region
+     * @return
+     */
+    private static String accountId(final AwsCredentials awsCredentials, final String region) {
+        try (StsClient sts = StsClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
+                .httpClientBuilder(UrlConnectionHttpClient.builder())
+                .build()) {
+            return sts.getCallerIdentity().account();
+        }
+    }
+
+    /**
+     * Read a manifest: a JSON array of objects with name, eksClusterId, namespace and optional tags.
+     *
+     * @param manifest
+     * @return
+     * @throws IOException
+     */
+    static List<ManifestEntry> readManifest(final Path manifest) throws IOException {
+        return MAPPER.readValue(manifest.toFile(), new TypeReference<List<ManifestEntry>>() { });
+    }
+
+    /**
+     * Provision every entry and wait for all of them to reach RUNNING or fail.
+     *
+     * @param manifest
+     * @return results in manifest order
+     * @throws InterruptedException
+     */
+    public Report provision(final List<ManifestEntry> manifest) throws InterruptedException {
+        final long startMillis = System.currentTimeMillis();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(concurrency, manifest.size())));
+        try {
+            final List<Future<ItemResult>> futures = new ArrayList<>(manifest.size());
+            for (ManifestEntry entry : manifest) {
+                futures.add(executor.submit(() -> provision(entry)));
+            }
+
+            final List<ItemResult> results = new ArrayList<>(manifest.size());
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    results.add(new ItemResult(manifest.get(i), null, HandlerErrorCode.InternalFailure,
+                            String.valueOf(e.getCause()), System.currentTimeMillis() - startMillis));
+                }
+            }
+            return new Report(results, System.currentTimeMillis() - startMillis);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Create one cluster, re-invoking the create handler with its callback context until the cluster is RUNNING.
+     *
+     * @param entry
+     * @return
+     */
+    private ItemResult provision(final ManifestEntry entry) {
+        final long startMillis = System.currentTimeMillis();
+        final ResourceModel model = ResourceModel.builder()
+                .name(entry.getName())
+                .containerProvider(ContainerProvider.builder()
+                        .id(entry.getEksClusterId())
+                        .type("EKS")
+                        .info(ContainerInfo.builder()
+                                .eksInfo(EksInfo.builder().namespace(entry.getNamespace()).build())
+                                .build())
+                        .build())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(entry.getTags())
+                .region(region)
+                .awsAccountId(awsAccountId)
+                .clientRequestToken(clientToken(entry))
+                .build();
+
+        CallbackContext callbackContext = null;
+        try {
+            while (true) {
+                final ProgressEvent<ResourceModel, CallbackContext> event =
+                        createHandler.handleRequest(proxy, request, callbackContext, logger);
+                if (event.getStatus() == OperationStatus.SUCCESS) {
+                    return new ItemResult(entry, event.getResourceModel(), null, null,
+                            System.currentTimeMillis() - startMillis);
+                }
+                if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                    return new ItemResult(entry, event.getResourceModel(), event.getErrorCode(), event.getMessage(),
+                            System.currentTimeMillis() - startMillis);
+                }
+                callbackContext = event.getCallbackContext();
+                if (event.getResourceModel() != null) {
+                    request.setDesiredResourceState(event.getResourceModel());
+                }
+                Thread.sleep(TimeUnit.SECONDS.toMillis(event.getCallbackDelaySeconds()));
+            }
+        } catch (BaseHandlerException e) {
+            return new ItemResult(entry, null, e.getErrorCode(), e.getMessage(), System.currentTimeMillis() - startMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ItemResult(entry, null, HandlerErrorCode.InternalFailure, "Interrupted",
+                    System.currentTimeMillis() - startMillis);
+        }
+    }
+
+    /**
+     * Derive the client token of an entry, so a retried manifest maps each entry to the cluster created before.
+     *
+     * @param entry
+     * @return
+     */
+    static String clientToken(final ManifestEntry entry) {
+        final String key = String.join("/", String.valueOf(entry.getName()), String.valueOf(entry.getEksClusterId()),
+                String.valueOf(entry.getNamespace()));
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -10,7 +10,11 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @Builder
 @JsonDeserialize(builder = CallbackContext.CallbackContextBuilder.class)
 public class CallbackContext extends StdCallbackContext {
+    @Builder.Default private Boolean isCreateInProgress = false;
     @Builder.Default private Boolean isDeleteInProgress = false;
+    @Builder.Default private Integer stabilizationAttempts = 0;
+    private Long stabilizationStartTime;
+    private String virtualClusterId;
 
     @JsonPOJOBuilder(withPrefix = "")
     public static class CallbackContextBuilder {
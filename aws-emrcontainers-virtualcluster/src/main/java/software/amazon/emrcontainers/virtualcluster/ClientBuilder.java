@@ -0,0 +1,114 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClientBuilder;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the EMR Containers clients shared by all handlers. Building a client resolves the region and sets up its
+ * HTTP client, so clients are created lazily once per region/endpoint and reused across invocations served by the
+ * same container. Credentials are injected per request through the {@code ProxyClient} of the request's
+ * {@code AmazonWebServicesClientProxy}, which makes a shared client safe to use for every caller.
+ *
+ * <p>Clients run on the JDK's URL connection HTTP client, which loads far fewer classes on a cold start than the
+ * Apache HTTP stack.
+ *
+ * <p>The SDK does not retry throttled calls itself; {@link EmrContainersInvoker} owns throttling retries so that
+ * they are paced and budgeted across all handlers instead of multiplying per call.
+ */
+public class ClientBuilder {
+    private static final String DEFAULT_KEY = "default";
+
+    private static final RetryPolicy RETRY_POLICY = RetryPolicy.defaultRetryPolicy().toBuilder()
+            .retryCondition(ClientBuilder::shouldRetry)
+            .build();
+
+    private static final ConcurrentMap<String, EmrContainersClient> CLIENTS = new ConcurrentHashMap<>();
+
+    private static volatile EmrContainersClient overrideClient;
+
+    static EmrContainersClient getClient() {
+        return getClient(null, null);
+    }
+
+    static EmrContainersClient getClient(final String region) {
+        return getClient(region, null);
+    }
+
+    /**
+     * Get the shared client for the given region and endpoint, building it on first use.
+     *
+     * @param region region of the client, or null to use the default region provider chain
+     * @param endpoint endpoint override, or null to use the regional service endpoint
+     * @return
+     */
+    static EmrContainersClient getClient(final String region, final String endpoint) {
+        final EmrContainersClient client = overrideClient;
+        if (client != null) {
+            return client;
+        }
+        return CLIENTS.computeIfAbsent(clientKey(region, endpoint), key -> buildClient(region, endpoint));
+    }
+
+    /**
+     * Replace every client handed out by this holder, used by tests to inject a stub client.
+     *
+     * @param client
+     */
+    static void setClient(final EmrContainersClient client) {
+        overrideClient = client;
+    }
+
+    /**
+     * Drop the injected client and close all cached clients so the next call builds fresh ones.
+     */
+    static void reset() {
+        overrideClient = null;
+        CLIENTS.values().forEach(EmrContainersClient::close);
+        CLIENTS.clear();
+    }
+
+    private static String clientKey(final String region, final String endpoint) {
+        if (region == null && endpoint == null) {
+            return DEFAULT_KEY;
+        }
+        return region + "|" + endpoint;
+    }
+
+    /**
+     * Build a client on the URL connection HTTP client.
+     *
+     * @param region region of the client, or null to use the default region provider chain
+     * @param endpoint endpoint override, or null to use the regional service endpoint
+     * @return
+     */
+    static EmrContainersClient buildClient(final String region, final String endpoint) {
+        final EmrContainersClientBuilder builder = EmrContainersClient.builder()
+                .httpClientBuilder(UrlConnectionHttpClient.builder())
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RETRY_POLICY)
+                        .build());
+        if (region != null) {
+            builder.region(Region.of(region));
+        }
+        if (endpoint != null) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    private static boolean shouldRetry(final RetryPolicyContext context) {
+        return !RetryUtils.isThrottlingException(context.exception())
+                && RetryCondition.defaultRetryCondition().shouldRetry(context);
+    }
+}
@@ -1,15 +1,38 @@
 package software.amazon.emrcontainers.virtualcluster;
 
 import com.amazonaws.util.CollectionUtils;
+import org.json.JSONObject;
+import org.json.JSONTokener;
 
 import java.util.Collections;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 class Configuration extends BaseConfiguration {
+    private static final String SCHEMA_FILENAME = "aws-emrcontainers-virtualcluster.json";
+    private static final String SNAP_START_INITIALIZATION_TYPE = "snap-start";
+
+    static {
+        // The generated HandlerWrapper creates its Configuration during function init, before any snapshot is taken.
+        // Registering loads org.crac, so it is skipped on runtimes that cannot take a snapshot.
+        if (isCheckpointRuntime()) {
+            SnapStartPriming.register();
+        }
+    }
 
     public Configuration() {
-        super("aws-emrcontainers-virtualcluster.json");
+        super(SCHEMA_FILENAME);
+    }
+
+    /**
+     * The schema is read and parsed on the first request that validates a model rather than on every request, and
+     * is then shared by every handler served by this container.
+     *
+     * @return
+     */
+    @Override
+    public JSONObject resourceSchemaJSONObject() {
+        return SchemaHolder.SCHEMA;
     }
 
     /**
@@ -27,4 +50,26 @@ class Configuration extends BaseConfiguration {
                 .stream()
                 .collect(Collectors.toMap(Tag::getKey, Tag::getValue));
     }
+
+    /**
+     * Whether this JVM can be checkpointed: a Lambda SnapStart initialization, or a JDK with CRaC support.
+     *
+     * @return
+     */
+    static boolean isCheckpointRuntime() {
+        if (SNAP_START_INITIALIZATION_TYPE.equals(System.getenv("AWS_LAMBDA_INITIALIZATION_TYPE"))) {
+            return true;
+        }
+        try {
+            Class.forName("jdk.crac.Core", false, Configuration.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static class SchemaHolder {
+        private static final JSONObject SCHEMA = new JSONObject(new JSONTokener(
+                Configuration.class.getClassLoader().getResourceAsStream(SCHEMA_FILENAME)));
+    }
 }
@@ -1,6 +1,43 @@
 package software.amazon.emrcontainers.virtualcluster;
 
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 public class Constants {
     public static final int CALLBACK_DELAY_SECONDS = 5;
+    public static final int LIST_PAGE_SIZE = 50;
+    public static final List<VirtualClusterState> ACTIVE_VIRTUAL_CLUSTER_STATES = Collections.unmodifiableList(Arrays.asList(
+            VirtualClusterState.RUNNING,
+            VirtualClusterState.ARRESTED,
+            VirtualClusterState.TERMINATING));
+    public static final int STABILIZATION_MAX_DELAY_SECONDS = 60;
+    public static final long STABILIZATION_TIMEOUT_MILLIS = 60 * 60 * 1000L;
+    public static final long IN_PROCESS_STABILIZATION_MILLIS = 20 * 1000L;
+    public static final long IN_PROCESS_POLL_INTERVAL_MILLIS = 2 * 1000L;
+    public static final long DESCRIBE_CACHE_TTL_MILLIS = 5 * 1000L;
+    public static final int DESCRIBE_CACHE_MAX_ENTRIES = 1000;
+    public static final int READ_BURST_MISS_THRESHOLD = 5;
+    public static final long READ_BURST_WINDOW_MILLIS = 10 * 1000L;
+    public static final int READ_BURST_MAX_ACCOUNTS = 1000;
+    public static final int TAG_BATCH_SIZE = 50;
+    public static final int MUTATION_PARALLELISM = 4;
+    public static final double API_RATE_LIMIT_PER_SECOND = 20;
+    public static final int API_RATE_LIMIT_BURST = 40;
+    public static final int THROTTLE_MAX_ATTEMPTS = 5;
+    public static final long THROTTLE_BASE_BACKOFF_MILLIS = 200L;
+    public static final long THROTTLE_MAX_BACKOFF_MILLIS = 5 * 1000L;
+    public static final int THROTTLE_RETRY_BUDGET = 20;
+    public static final double THROTTLE_RETRY_BUDGET_DEPOSIT = 0.1;
+    public static final int BULK_PROVISIONING_CONCURRENCY = 8;
+    public static final int REAPER_CONCURRENCY = 8;
+    public static final long REAPER_POLL_INTERVAL_MILLIS = 10 * 1000L;
+    public static final long INVENTORY_CREATION_STALENESS_MILLIS = 60 * 1000L;
+    public static final long INVENTORY_DELETION_STALENESS_MILLIS = 15 * 60 * 1000L;
+    public static final long INVENTORY_CREATED_AFTER_OVERLAP_MILLIS = 1000L;
+    public static final String INVENTORY_DIRECTORY = "/tmp";
     public static final String VIRTUAL_CLUSTER_TERMINATED_MESSAGE = "is already terminated";
+    public static final String VIRTUAL_CLUSTER_ALREADY_EXISTS_MESSAGE = "already exists";
 }
@@ -1,16 +1,40 @@
 package software.amazon.emrcontainers.virtualcluster;
 
-import com.amazonaws.services.emrcontainers.AmazonEMRContainers;
-import com.amazonaws.services.emrcontainers.AmazonEMRContainersClientBuilder;
-import com.amazonaws.services.emrcontainers.model.*;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.CreateVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.InternalServerException;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersResponse;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.*;
 
+import java.util.Objects;
+import java.util.function.Function;
+
 public class CreateHandler extends BaseHandler<CallbackContext> {
-    private Logger logger;
-    private AmazonWebServicesClientProxy clientProxy;
-    private AmazonEMRContainers emrContainersClient;
+    private final long inProcessStabilizationMillis;
+    private final long inProcessPollIntervalMillis;
+    private final Function<String, EmrContainersClient> clients;
+
+    public CreateHandler() {
+        this(Constants.IN_PROCESS_STABILIZATION_MILLIS, Constants.IN_PROCESS_POLL_INTERVAL_MILLIS);
+    }
+
+    CreateHandler(final long inProcessStabilizationMillis, final long inProcessPollIntervalMillis) {
+        this(inProcessStabilizationMillis, inProcessPollIntervalMillis, ClientBuilder::getClient);
+    }
+
+    CreateHandler(final long inProcessStabilizationMillis, final long inProcessPollIntervalMillis,
+            final Function<String, EmrContainersClient> clients) {
+        this.inProcessStabilizationMillis = inProcessStabilizationMillis;
+        this.inProcessPollIntervalMillis = inProcessPollIntervalMillis;
+        this.clients = clients;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -18,11 +42,19 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        this.logger = logger;
-        clientProxy = proxy;
-        emrContainersClient = AmazonEMRContainersClientBuilder.defaultClient();
-
+        final long deadlineMillis = System.currentTimeMillis() + inProcessStabilizationMillis;
         final ResourceModel model = request.getDesiredResourceState();
+        final RequestContext context = RequestContext.of(proxy, clients, request, logger, model.getId());
+        if (callbackContext != null
+                && (callbackContext.getIsCreateInProgress() || callbackContext.getVirtualClusterId() != null)) {
+            // The cluster was already created by an earlier invocation of this request; only track it.
+            if (model.getId() == null) {
+                model.setId(callbackContext.getVirtualClusterId());
+            }
+            callbackContext.setIsCreateInProgress(true);
+            return stabilize(context, model, callbackContext, deadlineMillis);
+        }
+
         if (model.getArn() != null) {
             String readOnlyPropertyErrorMessage = "Arn is a ReadOnly property which cannot be specified in the template";
             logger.log(String.format("[ClientRequestToken: %s]\nResource failed in Create operation, Error: %s\n",
@@ -31,33 +63,120 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
                     new Exception(readOnlyPropertyErrorMessage), HandlerErrorCode.InvalidRequest);
         }
 
-        return ProgressEvent.defaultSuccessHandler(createVirtualCluster(model, request));
+        // A new cluster is normally RUNNING straight away, so the first Describe usually completes the create
+        // without any callback round trip.
+        final ResourceModel createdModel = createVirtualCluster(context, model);
+        final CallbackContext stabilizationContext = CallbackContext.builder()
+                .isCreateInProgress(true)
+                .virtualClusterId(createdModel.getId())
+                .build();
+        return stabilize(context, createdModel, stabilizationContext, deadlineMillis);
     }
 
-    private ResourceModel createVirtualCluster(ResourceModel model, ResourceHandlerRequest<ResourceModel> request) {
-        final CreateVirtualClusterRequest createVirtualClusterRequest = new CreateVirtualClusterRequest();
-        createVirtualClusterRequest.setName(model.getName());
-        createVirtualClusterRequest.setContainerProvider(Translator.translate(model.getContainerProvider()));
-        createVirtualClusterRequest.setTags(request.getDesiredResourceTags());
-        createVirtualClusterRequest.setClientToken(request.getClientRequestToken());
+    /**
+     * Track a created cluster until it is RUNNING. The cluster exists by the time this runs, so a throttled poll
+     * comes back on the next scheduled poll with the cluster ID recorded instead of failing, which would make
+     * CloudFormation retry the whole create.
+     *
+     * @param context
+     * @param model
+     * @param callbackContext
+     * @param deadlineMillis
+     * @return
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> stabilize(RequestContext context, ResourceModel model,
+                                                                    CallbackContext callbackContext,
+                                                                    long deadlineMillis) {
+        final ResourceStabilizer resourceStabilizer = buildResourceStabilizer(context, model);
+        try {
+            return resourceStabilizer.stabilizeResource(callbackContext, deadlineMillis);
+        } catch (CfnThrottlingException e) {
+            return resourceStabilizer.scheduleNextPoll(callbackContext);
+        }
+    }
+
+    private ResourceStabilizer buildResourceStabilizer(RequestContext context, ResourceModel model) {
+        return ResourceStabilizer.builder()
+                .proxyClient(context.getProxyClient())
+                .model(model)
+                .awsAccountId(context.getRequest().getAwsAccountId())
+                .pollIntervalMillis(inProcessPollIntervalMillis)
+                .metrics(context.getMetrics().withVirtualClusterId(model.getId()))
+                .build();
+    }
 
+    private ResourceModel createVirtualCluster(RequestContext context, ResourceModel model) {
+        final ResourceHandlerRequest<ResourceModel> request = context.getRequest();
         try {
-            final CreateVirtualClusterResult createVirtualClusterResult =
-                    clientProxy.injectCredentialsAndInvoke(
-                            createVirtualClusterRequest,
-                            emrContainersClient::createVirtualCluster);
+            final CreateVirtualClusterResponse createVirtualClusterResponse = context.invoke(
+                    Translator.translateToCreateRequest(model, request.getDesiredResourceTags(),
+                            request.getClientRequestToken()),
+                    context.getEmrContainersClient()::createVirtualCluster);
 
             return ResourceModel.builder()
-                .arn(createVirtualClusterResult.getArn())
-                .id(createVirtualClusterResult.getId())
+                .arn(createVirtualClusterResponse.arn())
+                .id(createVirtualClusterResponse.id())
                 .containerProvider(model.getContainerProvider())
-                .name(createVirtualClusterResult.getName())
+                .name(createVirtualClusterResponse.name())
                 .tags(Translator.toTagSet(request.getDesiredResourceTags()))
                 .build();
         } catch (InternalServerException e) {
             throw new CfnGeneralServiceException("createVirtualCluster", e);
-        } catch (AmazonEMRContainersException e) {
+        } catch (EmrContainersException e) {
+            if (e.getMessage().contains(Constants.VIRTUAL_CLUSTER_ALREADY_EXISTS_MESSAGE)) {
+                final VirtualCluster existingCluster = findActiveVirtualClusterInNamespace(context, model);
+                if (existingCluster != null) {
+                    throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, existingCluster.id());
+                }
+            }
             throw new CfnInvalidRequestException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Find the active virtual cluster occupying the namespace the model asks for, listing only the clusters of the
+     * model's container provider.
+     *
+     * @param context
+     * @param model
+     * @return the cluster, or null when none is found
+     */
+    private VirtualCluster findActiveVirtualClusterInNamespace(RequestContext context, ResourceModel model) {
+        final ContainerProvider containerProvider = model.getContainerProvider();
+        if (containerProvider == null || containerProvider.getInfo() == null
+                || containerProvider.getInfo().getEksInfo() == null) {
+            return null;
+        }
+        final String namespace = containerProvider.getInfo().getEksInfo().getNamespace();
+
+        String nextToken = null;
+        try {
+            do {
+                final ListVirtualClustersRequest listVirtualClustersRequest =
+                        Translator.translateToListRequest(nextToken, Constants.LIST_PAGE_SIZE, model);
+                final ListVirtualClustersResponse listVirtualClustersResponse = context.invoke(
+                        listVirtualClustersRequest, context.getEmrContainersClient()::listVirtualClusters);
+                final VirtualCluster match = Translator.streamOfOrEmpty(listVirtualClustersResponse.virtualClusters())
+                        .filter(virtualCluster -> isInNamespace(virtualCluster, namespace))
+                        .findFirst()
+                        .orElse(null);
+                if (match != null) {
+                    return match;
+                }
+                nextToken = listVirtualClustersResponse.nextToken();
+            } while (nextToken != null);
+        } catch (EmrContainersException e) {
+            // Only used to refine the error of a failed create; report the original failure instead.
+        }
+        return null;
+    }
+
+    private static boolean isInNamespace(VirtualCluster virtualCluster, String namespace) {
+        final software.amazon.awssdk.services.emrcontainers.model.ContainerProvider containerProvider =
+                virtualCluster.containerProvider();
+        return containerProvider != null
+                && containerProvider.info() != null
+                && containerProvider.info().eksInfo() != null
+                && Objects.equals(namespace, containerProvider.info().eksInfo().namespace());
+    }
 }
@@ -1,8 +1,9 @@
 package software.amazon.emrcontainers.virtualcluster;
 
-import com.amazonaws.services.emrcontainers.AmazonEMRContainers;
-import com.amazonaws.services.emrcontainers.AmazonEMRContainersClientBuilder;
-import com.amazonaws.services.emrcontainers.model.*;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.InternalServerException;
+import software.amazon.awssdk.services.emrcontainers.model.ResourceNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -11,10 +12,27 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.function.Function;
+
 public class DeleteHandler extends BaseHandler<CallbackContext> {
-    private AmazonWebServicesClientProxy clientProxy;
-    private AmazonEMRContainers emrContainersClient;
-    private ResourceStabilizer resourceStabilizer;
+    private final long inProcessStabilizationMillis;
+    private final long inProcessPollIntervalMillis;
+    private final Function<String, EmrContainersClient> clients;
+
+    public DeleteHandler() {
+        this(Constants.IN_PROCESS_STABILIZATION_MILLIS, Constants.IN_PROCESS_POLL_INTERVAL_MILLIS);
+    }
+
+    DeleteHandler(final long inProcessStabilizationMillis, final long inProcessPollIntervalMillis) {
+        this(inProcessStabilizationMillis, inProcessPollIntervalMillis, ClientBuilder::getClient);
+    }
+
+    DeleteHandler(final long inProcessStabilizationMillis, final long inProcessPollIntervalMillis,
+            final Function<String, EmrContainersClient> clients) {
+        this.inProcessStabilizationMillis = inProcessStabilizationMillis;
+        this.inProcessPollIntervalMillis = inProcessPollIntervalMillis;
+        this.clients = clients;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -23,41 +41,48 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
+        // The handler is not given the Lambda context, so in-process polling is bounded by a fixed window that
+        // stays well inside the invocation timeout before falling back to callback re-invocation.
+        final long deadlineMillis = System.currentTimeMillis() + inProcessStabilizationMillis;
         final ResourceModel model = request.getDesiredResourceState();
-        clientProxy = proxy;
-        emrContainersClient = AmazonEMRContainersClientBuilder.defaultClient();
-        this.resourceStabilizer = ResourceStabilizer.builder()
-                .emrContainersClient(emrContainersClient)
-                .proxy(proxy)
+        final RequestContext context = RequestContext.of(proxy, clients, request, logger, model.getId());
+        final ResourceStabilizer resourceStabilizer = ResourceStabilizer.builder()
+                .proxyClient(context.getProxyClient())
                 .model(model)
+                .awsAccountId(request.getAwsAccountId())
+                .pollIntervalMillis(inProcessPollIntervalMillis)
+                .metrics(context.getMetrics())
                 .build();
 
         if (callbackContext != null && callbackContext.getIsDeleteInProgress()) {
-            return resourceStabilizer.stabilizeResource(callbackContext);
+            return resourceStabilizer.stabilizeResource(callbackContext, deadlineMillis);
         } else {
-            return deleteCluster(model);
+            return deleteCluster(context, resourceStabilizer, model, deadlineMillis);
         }
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> deleteCluster(final ResourceModel model) {
+    private ProgressEvent<ResourceModel, CallbackContext> deleteCluster(final RequestContext context,
+                                                                       final ResourceStabilizer resourceStabilizer,
+                                                                       final ResourceModel model,
+                                                                       final long deadlineMillis) {
 
-        DeleteVirtualClusterRequest deleteVirtualClusterRequest =
-                new DeleteVirtualClusterRequest();
-        deleteVirtualClusterRequest.setId(model.getId());
         try {
-            clientProxy.injectCredentialsAndInvoke(deleteVirtualClusterRequest, emrContainersClient::deleteVirtualCluster);
+            context.invoke(Translator.translateToDeleteRequest(model.getId()),
+                    context.getEmrContainersClient()::deleteVirtualCluster);
         } catch(ResourceNotFoundException e) {
             throw new CfnNotFoundException(e);
         } catch (InternalServerException e) {
             throw new CfnGeneralServiceException("deleteVirtualCluster", e);
-        } catch (AmazonEMRContainersException e) {
+        } catch (EmrContainersException e) {
             if (e.getMessage().contains(Constants.VIRTUAL_CLUSTER_TERMINATED_MESSAGE)) {
                 throw new CfnNotFoundException(e);
             }
             throw new CfnInvalidRequestException(e.getMessage(), e);
+        } finally {
+            VirtualClusterCache.getInstance().invalidate(context.cacheKey(model.getId()));
         }
 
         CallbackContext stabilizationContext = CallbackContext.builder().isDeleteInProgress(true).build();
-        return ProgressEvent.defaultInProgressHandler(stabilizationContext, Constants.CALLBACK_DELAY_SECONDS, model);
+        return resourceStabilizer.awaitStabilization(stabilizationContext, deadlineMillis);
     }
 }
@@ -0,0 +1,140 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Invokes EMR Containers APIs through the request's {@link ProxyClient}, which injects the caller's credentials. Calls are paced by a rate limiter shared by
+ * every handler in the container, and throttled calls are retried with jittered exponential backoff as long as the
+ * shared retry budget allows. A call that stays throttled surfaces as {@link CfnThrottlingException}, which
+ * CloudFormation reports as {@code HandlerErrorCode.Throttling}.
+ */
+public class EmrContainersInvoker {
+    private static final EmrContainersInvoker DEFAULT_INSTANCE = new EmrContainersInvoker(
+            new TokenBucketRateLimiter(Constants.API_RATE_LIMIT_PER_SECOND, Constants.API_RATE_LIMIT_BURST),
+            new RetryBudget(Constants.THROTTLE_RETRY_BUDGET, Constants.THROTTLE_RETRY_BUDGET_DEPOSIT),
+            Constants.THROTTLE_MAX_ATTEMPTS,
+            Constants.THROTTLE_BASE_BACKOFF_MILLIS,
+            Constants.THROTTLE_MAX_BACKOFF_MILLIS);
+
+    private static volatile EmrContainersInvoker instance = DEFAULT_INSTANCE;
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final RetryBudget retryBudget;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    EmrContainersInvoker(final TokenBucketRateLimiter rateLimiter,
+                         final RetryBudget retryBudget,
+                         final int maxAttempts,
+                         final long baseBackoffMillis,
+                         final long maxBackoffMillis) {
+        this.rateLimiter = rateLimiter;
+        this.retryBudget = retryBudget;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    static EmrContainersInvoker getInstance() {
+        return instance;
+    }
+
+    /**
+     * Replace the invoker used by all handlers, used by load tests to lift the production call rate limit.
+     *
+     * @param invoker
+     */
+    static void setInstance(final EmrContainersInvoker invoker) {
+        instance = invoker;
+    }
+
+    static void reset() {
+        instance = DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Invoke an API with pacing and throttling retries, recording its latency and outcome.
+     *
+     * @param proxyClient
+     * @param metrics request-scoped metrics sink
+     * @param request
+     * @param requestFunction
+     * @return
+     */
+    public <RequestT extends AwsRequest, ResultT extends AwsResponse>
+    ResultT invoke(final ProxyClient<EmrContainersClient> proxyClient,
+                   final MetricsLogger metrics,
+                   final RequestT request,
+                   final Function<RequestT, ResultT> requestFunction) {
+        final long startMillis = System.currentTimeMillis();
+        int attempt = 1;
+        int throttles = 0;
+        boolean failed = true;
+        try {
+            while (true) {
+                acquirePermit(request);
+                try {
+                    final ResultT result = proxyClient.injectCredentialsAndInvokeV2(request, requestFunction);
+                    retryBudget.onSuccess();
+                    failed = false;
+                    return result;
+                } catch (AwsServiceException e) {
+                    if (!RetryUtils.isThrottlingException(e)) {
+                        throw e;
+                    }
+                    throttles++;
+                    if (attempt >= maxAttempts || !retryBudget.tryWithdraw() || !backOff(attempt)) {
+                        throw new CfnThrottlingException(operationName(request), e);
+                    }
+                    attempt++;
+                }
+            }
+        } finally {
+            metrics.recordCall(operationName(request), System.currentTimeMillis() - startMillis,
+                    attempt - 1, throttles, failed);
+        }
+    }
+
+    private void acquirePermit(final AwsRequest request) {
+        try {
+            rateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            // The caller is being cancelled, for example by an executor's shutdownNow(); start no further calls.
+            throw AbortedException.builder()
+                    .message(operationName(request) + " was not called because the thread was interrupted")
+                    .build();
+        }
+    }
+
+    private boolean backOff(final int attempt) {
+        final long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static String operationName(final AwsRequest request) {
+        final String requestName = request.getClass().getSimpleName();
+        return requestName.endsWith("Request")
+                ? requestName.substring(0, requestName.length() - "Request".length())
+                : requestName;
+    }
+}
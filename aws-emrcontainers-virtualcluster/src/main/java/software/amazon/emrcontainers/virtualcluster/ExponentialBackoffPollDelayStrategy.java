@@ -0,0 +1,37 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.Random;
+
+/**
+ * Doubles the poll delay on every attempt, starting from the base delay and capped at the max delay. The delay for
+ * an attempt is drawn uniformly between the base delay and the capped exponential value, so concurrent
+ * stabilizations spread out instead of polling in lockstep.
+ */
+@AllArgsConstructor
+@Builder
+public class ExponentialBackoffPollDelayStrategy implements PollDelayStrategy {
+    private static final int MAX_DOUBLINGS = 20;
+
+    @Builder.Default private final int baseDelaySeconds = Constants.CALLBACK_DELAY_SECONDS;
+    @Builder.Default private final int maxDelaySeconds = Constants.STABILIZATION_MAX_DELAY_SECONDS;
+    @Builder.Default private final long timeoutMillis = Constants.STABILIZATION_TIMEOUT_MILLIS;
+    @Builder.Default private final Random random = new Random();
+
+    @Override
+    public int getDelaySeconds(int attempt) {
+        final long exponentialDelay = (long) baseDelaySeconds << Math.min(Math.max(attempt, 0), MAX_DOUBLINGS);
+        final int cappedDelay = (int) Math.min(maxDelaySeconds, exponentialDelay);
+        if (cappedDelay <= baseDelaySeconds) {
+            return cappedDelay;
+        }
+        return baseDelaySeconds + random.nextInt(cappedDelay - baseDelaySeconds + 1);
+    }
+
+    @Override
+    public boolean isTimedOut(long elapsedMillis) {
+        return elapsedMillis >= timeoutMillis;
+    }
+}
@@ -1,10 +1,7 @@
 package software.amazon.emrcontainers.virtualcluster;
 
-import com.amazonaws.services.emrcontainers.AmazonEMRContainers;
-import com.amazonaws.services.emrcontainers.AmazonEMRContainersClientBuilder;
-import com.amazonaws.services.emrcontainers.model.ListVirtualClustersRequest;
-import com.amazonaws.services.emrcontainers.model.VirtualCluster;
-import com.amazonaws.services.emrcontainers.model.VirtualClusterState;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -12,11 +9,24 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
-    private AmazonWebServicesClientProxy clientProxy;
-    private AmazonEMRContainers emrContainersClient;
+    private final int pageSize;
+    private final Function<String, EmrContainersClient> clients;
+
+    public ListHandler() {
+        this(Constants.LIST_PAGE_SIZE);
+    }
+
+    ListHandler(final int pageSize) {
+        this(pageSize, ClientBuilder::getClient);
+    }
+
+    ListHandler(final int pageSize, final Function<String, EmrContainersClient> clients) {
+        this.pageSize = pageSize;
+        this.clients = clients;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -25,29 +35,19 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
-        clientProxy = proxy;
-        emrContainersClient = AmazonEMRContainersClientBuilder.defaultClient();
-
-        ListVirtualClustersRequest listVirtualClustersRequest = new ListVirtualClustersRequest();
-        List<VirtualCluster> virtualClusterList = clientProxy.injectCredentialsAndInvoke(
-                listVirtualClustersRequest, emrContainersClient::listVirtualClusters
-        ).getVirtualClusters();
-
-        final List<ResourceModel> models = virtualClusterList.stream()
-            .filter((virtualCluster -> !virtualCluster.getState().equals(VirtualClusterState.TERMINATED.toString())))
-            .map((virtualCluster) -> {
-                ResourceModel model = ResourceModel.builder()
-                    .arn(virtualCluster.getArn())
-                    .containerProvider(Translator.translate(virtualCluster.getContainerProvider()))
-                    .id(virtualCluster.getId())
-                    .name(virtualCluster.getName())
-                    .tags(Translator.toTagSet(virtualCluster.getTags()))
-                    .build();
-            return model;
-        }).collect(Collectors.toList());
+        final RequestContext context = RequestContext.of(proxy, clients, request, logger, null);
+
+        // Listing only the clusters of the container provider the request model names, if any, keeps listing the
+        // virtual clusters of one EKS cluster from paging through the whole account.
+        ListVirtualClustersResponse listVirtualClustersResponse = context.invoke(
+                Translator.translateToListRequest(request.getNextToken(), pageSize, request.getDesiredResourceState()),
+                context.getEmrContainersClient()::listVirtualClusters);
+
+        final List<ResourceModel> models = Translator.toResourceModels(listVirtualClustersResponse.virtualClusters());
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModels(models)
+                .nextToken(listVirtualClustersResponse.nextToken())
                 .status(OperationStatus.SUCCESS)
                 .build();
     }
@@ -0,0 +1,243 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Builder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves the handlers from a long-running JVM over the Lambda Invoke API, so local contract and load tests skip the
+ * JVM start and class loading that SAM pays on every invocation. Payloads are the ones the functions of
+ * template.yml receive: {@code TestEntrypoint} takes the test payload sent by {@code cfn test}, {@code TypeFunction}
+ * takes the CloudFormation handler request. For example, start the host on the SAM default port and point the
+ * contract tests at it:
+ *
+ * <pre>
+ * java -cp target/aws-emrcontainers-virtualcluster-handler-1.0-SNAPSHOT.jar \
+ *     software.amazon.emrcontainers.virtualcluster.LocalHandlerHost 3001 16
+ * cfn test --endpoint http://127.0.0.1:3001
+ * </pre>
+ *
+ * The server is the JDK's built-in {@code com.sun.net.httpserver} rather than a hand-written NIO server: its
+ * default implementation already accepts and reads connections on a selector thread, it needs no dependency, and
+ * it hands complete requests to an executor. Requests are handled by a fixed pool of workers on that executor. The
+ * generated wrapper keeps per-invocation state in fields, so every worker gets its own wrapper. The host logs
+ * through the same logger as the invocations, to standard output.
+ */
+public class LocalHandlerHost {
+    static final String INVOCATIONS_PATH = "/2015-03-31/functions/";
+    static final String TEST_ENTRYPOINT = "TestEntrypoint";
+    static final String TYPE_FUNCTION = "TypeFunction";
+
+    private static final int DEFAULT_PORT = 3001;
+    private static final long INVOCATION_TIMEOUT_MILLIS = 180 * 1000L;
+
+    private static final LambdaLogger LOGGER = new LambdaLogger() {
+        @Override
+        public void log(final String message) {
+            System.out.println(message);
+        }
+
+        @Override
+        public void log(final byte[] message) {
+            System.out.println(new String(message, StandardCharsets.UTF_8));
+        }
+    };
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final ThreadLocal<HandlerWrapper> wrappers = ThreadLocal.withInitial(HandlerWrapper::new);
+
+    /**
+     * @param host address to bind, localhost when null
+     * @param port port to bind, or 0 for any free port
+     * @param workerThreads number of requests handled at once
+     * @throws IOException
+     */
+    @Builder
+    LocalHandlerHost(final String host, final int port, final int workerThreads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(host == null ? "localhost" : host, port), 0);
+        workers = Executors.newFixedThreadPool(workerThreads > 0 ? workerThreads : 1, new WorkerThreadFactory());
+        server.setExecutor(workers);
+        server.createContext(INVOCATIONS_PATH, this::invoke);
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final LocalHandlerHost host = LocalHandlerHost.builder()
+                .port(args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT)
+                .workerThreads(args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors())
+                .build();
+        Runtime.getRuntime().addShutdownHook(new Thread(host::stop));
+        host.start();
+        LOGGER.log("Serving handlers on port " + host.getPort());
+    }
+
+    void start() {
+        server.start();
+    }
+
+    /**
+     * Stop accepting invocations and wait briefly for those in flight.
+     */
+    void stop() {
+        server.stop(1);
+        workers.shutdown();
+        try {
+            workers.awaitTermination(INVOCATION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void invoke(final HttpExchange exchange) throws IOException {
+        try {
+            final String function = functionName(exchange.getRequestURI().getPath());
+            if (!"POST".equals(exchange.getRequestMethod()) || function == null) {
+                respond(exchange, 404, ("{\"message\":\"Unknown invocation " + exchange.getRequestURI() + "\"}")
+                        .getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            final ByteArrayOutputStream response = new ByteArrayOutputStream();
+            final Context context = new LocalContext(function, System.currentTimeMillis() + INVOCATION_TIMEOUT_MILLIS);
+            try (InputStream request = exchange.getRequestBody()) {
+                if (TEST_ENTRYPOINT.equals(function)) {
+                    wrappers.get().testEntrypoint(request, response, context);
+                } else {
+                    wrappers.get().handleRequest(request, response, context);
+                }
+            }
+            respond(exchange, 200, response.toByteArray());
+        } catch (RuntimeException | IOException e) {
+            // Answer a failure with an error rather than a reset connection, unless a response is already under way.
+            if (exchange.getResponseCode() == -1) {
+                respond(exchange, 500, ("{\"message\":\"" + e.getClass().getSimpleName() + "\"}")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Extract the function from a Lambda Invoke path such as /2015-03-31/functions/TestEntrypoint/invocations.
+     *
+     * @param path
+     * @return the function name, or null when the path invokes no known function
+     */
+    static String functionName(final String path) {
+        if (!path.startsWith(INVOCATIONS_PATH) || !path.endsWith("/invocations")) {
+            return null;
+        }
+        final String function = path.substring(INVOCATIONS_PATH.length(), path.length() - "/invocations".length());
+        return TEST_ENTRYPOINT.equals(function) || TYPE_FUNCTION.equals(function) ? function : null;
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            return new Thread(runnable, "handler-host-" + threadNumber.incrementAndGet());
+        }
+    }
+
+    /**
+     * Lambda context of one invocation, with logs going to standard output.
+     */
+    private static class LocalContext implements Context {
+        private final String functionName;
+        private final String awsRequestId = UUID.randomUUID().toString();
+        private final long deadlineMillis;
+
+        LocalContext(final String functionName, final long deadlineMillis) {
+            this.functionName = functionName;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        @Override
+        public String getAwsRequestId() {
+            return awsRequestId;
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return null;
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return null;
+        }
+
+        @Override
+        public String getFunctionName() {
+            return functionName;
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return "$LATEST";
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return null;
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return (int) Math.max(0L, deadlineMillis - System.currentTimeMillis());
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            return 0;
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return LOGGER;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes handler metrics as CloudWatch Embedded Metric Format log lines to the provider log, where CloudWatch turns
+ * them into metrics without any call to the metrics API. Metrics are dimensioned by operation only. The client
+ * request token and virtual cluster ID are deliberately not dimensions: both are unique per request or per cluster,
+ * so each value would create its own metric stream. They are written as properties of the log line instead, where
+ * CloudWatch Logs Insights can filter on them to trace a data point back to its request.
+ */
+public class MetricsLogger {
+    static final String NAMESPACE = "EMRContainers/VirtualClusterProvider";
+    static final String OPERATION_DIMENSION = "Operation";
+
+    /** Discards all metrics, for callers that have no request logger. */
+    static final MetricsLogger NONE = new MetricsLogger(null, null, null);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Logger logger;
+    private final String clientRequestToken;
+    private final String virtualClusterId;
+
+    public MetricsLogger(final Logger logger, final String clientRequestToken, final String virtualClusterId) {
+        this.logger = logger;
+        this.clientRequestToken = clientRequestToken;
+        this.virtualClusterId = virtualClusterId;
+    }
+
+    MetricsLogger withVirtualClusterId(final String id) {
+        return new MetricsLogger(logger, clientRequestToken, id);
+    }
+
+    /**
+     * Record one API invocation, including any throttling retries it took.
+     *
+     * @param operation API operation, e.g. DescribeVirtualCluster
+     * @param latencyMillis time spent in the invocation, retries included
+     * @param retries number of retries after the first attempt
+     * @param throttles number of attempts that were throttled
+     * @param failed whether the invocation ended in an exception
+     */
+    void recordCall(final String operation,
+                    final long latencyMillis,
+                    final int retries,
+                    final int throttles,
+                    final boolean failed) {
+        final Map<String, Number> values = new LinkedHashMap<>();
+        values.put("Latency", latencyMillis);
+        values.put("Retries", retries);
+        values.put("Throttles", throttles);
+        values.put("Errors", failed ? 1 : 0);
+        emit(operation, values);
+    }
+
+    /**
+     * Record that stabilization of a cluster is being handed back to CloudFormation for another poll.
+     *
+     * @param operation stabilization being tracked, e.g. CreateStabilization
+     * @param attempts polls scheduled so far, this one included
+     */
+    void recordStabilizationAttempt(final String operation, final int attempts) {
+        emit(operation, Collections.<String, Number>singletonMap("StabilizationAttempts", attempts));
+    }
+
+    private void emit(final String operation, final Map<String, Number> values) {
+        if (logger == null) {
+            return;
+        }
+
+        final List<Map<String, String>> metricDefinitions = new ArrayList<>(values.size());
+        for (String name : values.keySet()) {
+            final Map<String, String> metricDefinition = new LinkedHashMap<>();
+            metricDefinition.put("Name", name);
+            metricDefinition.put("Unit", "Latency".equals(name) ? "Milliseconds" : "Count");
+            metricDefinitions.add(metricDefinition);
+        }
+
+        final Map<String, Object> directive = new LinkedHashMap<>();
+        directive.put("Namespace", NAMESPACE);
+        directive.put("Dimensions", Collections.singletonList(Collections.singletonList(OPERATION_DIMENSION)));
+        directive.put("Metrics", metricDefinitions);
+
+        final Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("Timestamp", System.currentTimeMillis());
+        metadata.put("CloudWatchMetrics", Collections.singletonList(directive));
+
+        final Map<String, Object> line = new LinkedHashMap<>();
+        line.put("_aws", metadata);
+        line.put(OPERATION_DIMENSION, operation);
+        line.putAll(values);
+        if (clientRequestToken != null) {
+            line.put("ClientRequestToken", clientRequestToken);
+        }
+        if (virtualClusterId != null) {
+            line.put("VirtualClusterId", virtualClusterId);
+        }
+
+        try {
+            logger.log(MAPPER.writeValueAsString(line));
+        } catch (JsonProcessingException e) {
+            // Metrics are best effort and must never fail the handler.
+        }
+    }
+}
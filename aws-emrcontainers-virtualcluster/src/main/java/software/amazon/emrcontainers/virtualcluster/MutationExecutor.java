@@ -0,0 +1,115 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs independent mutations of a resource, such as tag and untag calls on disjoint keys, concurrently on a small
+ * pool shared by the container. Every mutation runs to completion even if another fails, and the failures are
+ * folded into the single exception CloudFormation gets to see.
+ */
+public class MutationExecutor {
+    /** Error codes in the order in which they are reported when several mutations fail differently. */
+    private static final List<HandlerErrorCode> ERROR_PRECEDENCE = Arrays.asList(
+            HandlerErrorCode.NotFound,
+            HandlerErrorCode.Throttling,
+            HandlerErrorCode.ServiceInternalError,
+            HandlerErrorCode.GeneralServiceException,
+            HandlerErrorCode.InvalidRequest);
+
+    private static final ExecutorService EXECUTOR = newExecutor(Constants.MUTATION_PARALLELISM);
+
+    /**
+     * Run all mutations and wait for them. A single mutation runs on the calling thread.
+     *
+     * @param mutations
+     */
+    static void runAll(final List<Runnable> mutations) {
+        if (mutations.size() <= 1) {
+            mutations.forEach(Runnable::run);
+            return;
+        }
+
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(mutations.size());
+        for (Runnable mutation : mutations) {
+            futures.add(CompletableFuture.runAsync(mutation, EXECUTOR));
+        }
+
+        final List<RuntimeException> failures = new ArrayList<>();
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                failures.add(unwrap(e));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw aggregate(failures);
+        }
+    }
+
+    /**
+     * Pick the failure to report by error code precedence and attach the others to it as suppressed exceptions.
+     *
+     * @param failures
+     * @return
+     */
+    static RuntimeException aggregate(final List<RuntimeException> failures) {
+        RuntimeException primary = failures.get(0);
+        for (RuntimeException failure : failures) {
+            if (precedence(failure) < precedence(primary)) {
+                primary = failure;
+            }
+        }
+        for (RuntimeException failure : failures) {
+            if (failure != primary) {
+                primary.addSuppressed(failure);
+            }
+        }
+        return primary;
+    }
+
+    private static int precedence(final RuntimeException failure) {
+        if (failure instanceof BaseHandlerException) {
+            final int index = ERROR_PRECEDENCE.indexOf(((BaseHandlerException) failure).getErrorCode());
+            if (index >= 0) {
+                return index;
+            }
+        }
+        return ERROR_PRECEDENCE.size();
+    }
+
+    private static RuntimeException unwrap(final CompletionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof RuntimeException ? (RuntimeException) cause : e;
+    }
+
+    private static ExecutorService newExecutor(final int parallelism) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, "virtualcluster-mutation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        // Idle threads are released so a frozen container does not hold on to them.
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,23 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+/**
+ * Decides how long to wait between the polls that track a virtual cluster to a stable state.
+ */
+public interface PollDelayStrategy {
+
+    /**
+     * Get the callback delay before the next poll.
+     *
+     * @param attempt number of polls already scheduled for this stabilization, starting at 0
+     * @return delay in seconds
+     */
+    int getDelaySeconds(int attempt);
+
+    /**
+     * Whether stabilization has run out of time and should be reported as failed.
+     *
+     * @param elapsedMillis time since the first poll was scheduled
+     * @return
+     */
+    boolean isTimedOut(long elapsedMillis);
+}
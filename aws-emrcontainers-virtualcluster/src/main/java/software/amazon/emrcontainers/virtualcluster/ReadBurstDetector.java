@@ -0,0 +1,71 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts describe cache misses per account within a fixed window, so {@link ReadHandler} can tell a burst of reads,
+ * such as a stack with many virtual clusters being refreshed, from occasional single reads. Shared by the handlers
+ * of a warm container; the least recently seen account is dropped once the detector is full.
+ */
+public class ReadBurstDetector {
+    private static final ReadBurstDetector INSTANCE = new ReadBurstDetector(Constants.READ_BURST_MISS_THRESHOLD,
+            Constants.READ_BURST_WINDOW_MILLIS, Constants.READ_BURST_MAX_ACCOUNTS, System::currentTimeMillis);
+
+    private final int missThreshold;
+    private final long windowMillis;
+    private final LongSupplier clock;
+    private final Map<String, Window> windows;
+
+    ReadBurstDetector(final int missThreshold, final long windowMillis, final int maxAccounts, final LongSupplier clock) {
+        this.missThreshold = missThreshold;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+        this.windows = new LinkedHashMap<String, Window>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                return size() > maxAccounts;
+            }
+        };
+    }
+
+    static ReadBurstDetector getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record a cache miss of the account.
+     *
+     * @param awsAccountId
+     * @return true for the one miss of a window that reaches the threshold, so a burst triggers a single scan
+     */
+    boolean recordMiss(final String awsAccountId) {
+        final long now = clock.getAsLong();
+        synchronized (windows) {
+            Window window = windows.get(awsAccountId);
+            if (window == null || now - window.startedAtMillis >= windowMillis) {
+                window = new Window(now);
+                windows.put(awsAccountId, window);
+            }
+            return ++window.misses == missThreshold;
+        }
+    }
+
+    void clear() {
+        synchronized (windows) {
+            windows.clear();
+        }
+    }
+
+    private static class Window {
+        private final long startedAtMillis;
+        private int misses;
+
+        Window(final long startedAtMillis) {
+            this.startedAtMillis = startedAtMillis;
+        }
+    }
+}
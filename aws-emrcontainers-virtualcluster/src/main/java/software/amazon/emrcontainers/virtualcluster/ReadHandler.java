@@ -1,16 +1,30 @@
 package software.amazon.emrcontainers.virtualcluster;
 
-import com.amazonaws.services.emrcontainers.AmazonEMRContainers;
-import com.amazonaws.services.emrcontainers.AmazonEMRContainersClientBuilder;
-import com.amazonaws.services.emrcontainers.model.*;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.InternalServerException;
+import software.amazon.awssdk.services.emrcontainers.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.*;
 
+import java.util.List;
+import java.util.function.Function;
+
 public class ReadHandler extends BaseHandler<CallbackContext> {
-    private AmazonWebServicesClientProxy clientProxy;
-    private AmazonEMRContainers emrContainersClient;
+    private final Function<String, EmrContainersClient> clients;
+
+    public ReadHandler() {
+        this(ClientBuilder::getClient);
+    }
+
+    ReadHandler(final Function<String, EmrContainersClient> clients) {
+        this.clients = clients;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -20,39 +34,69 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
             final Logger logger) {
 
         final ResourceModel model = request.getDesiredResourceState();
-        clientProxy = proxy;
-        emrContainersClient = AmazonEMRContainersClientBuilder.defaultClient();
+        final RequestContext context = RequestContext.of(proxy, clients, request, logger, model.getId());
 
-        return ProgressEvent.defaultSuccessHandler(describeVirtualCluster(model));
+        return ProgressEvent.defaultSuccessHandler(describeVirtualCluster(context, model));
     }
 
-    private ResourceModel describeVirtualCluster(final ResourceModel model) {
+    private ResourceModel describeVirtualCluster(final RequestContext context, final ResourceModel model) {
 
-        final DescribeVirtualClusterRequest describeVirtualClusterRequest = new DescribeVirtualClusterRequest();
-        describeVirtualClusterRequest.setId(model.getId());
         try {
-            final VirtualCluster virtualCluster=
-                clientProxy.injectCredentialsAndInvoke(
-                    describeVirtualClusterRequest,
-                    emrContainersClient::describeVirtualCluster).getVirtualCluster();
+            final String key = context.cacheKey(model.getId());
+            VirtualCluster virtualCluster = VirtualClusterCache.getInstance().get(key);
+            if (virtualCluster == null && key != null
+                    && ReadBurstDetector.getInstance().recordMiss(context.getRequest().getAwsAccountId())) {
+                virtualCluster = scanIntoCache(context, model.getId());
+            }
+            if (virtualCluster == null) {
+                virtualCluster = context.invoke(Translator.translateToReadRequest(model.getId()),
+                    context.getEmrContainersClient()::describeVirtualCluster).virtualCluster();
+                VirtualClusterCache.getInstance().put(key, virtualCluster);
+            }
 
-            if (virtualCluster.getState().equals(VirtualClusterState.TERMINATED.toString())) {
+            if (virtualCluster.state() == VirtualClusterState.TERMINATED) {
                 throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getId());
             }
 
-            return ResourceModel.builder()
-                .arn(virtualCluster.getArn())
-                .containerProvider(Translator.translate(virtualCluster.getContainerProvider()))
-                .id(virtualCluster.getId())
-                .name(virtualCluster.getName())
-                .tags(Translator.toTagSet(virtualCluster.getTags()))
-                .build();
-        } catch(com.amazonaws.services.emrcontainers.model.ResourceNotFoundException e) {
+            return Translator.translate(virtualCluster);
+        } catch(ResourceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getId());
         } catch (InternalServerException e) {
             throw new CfnGeneralServiceException("describeVirtualCluster", e);
-        } catch (AmazonEMRContainersException e) {
+        } catch (EmrContainersException e) {
             throw new CfnInvalidRequestException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Cache every active cluster of the account with one scan, so the other reads of a burst are served from the
+     * cache instead of describing each cluster. A failed scan is not fatal, the read falls back to describing.
+     *
+     * @param context
+     * @param virtualClusterId
+     * @return the requested cluster, or null when the scan failed or did not return it
+     */
+    private VirtualCluster scanIntoCache(final RequestContext context, final String virtualClusterId) {
+        final List<VirtualCluster> virtualClusters;
+        try {
+            virtualClusters = VirtualClusterBatchReader.builder()
+                .proxyClient(context.getProxyClient())
+                .metrics(context.getMetrics())
+                .build()
+                .scan();
+        } catch (BaseHandlerException e) {
+            context.getLogger().log(String.format("Scanning virtual clusters failed, describing %s instead: %s",
+                virtualClusterId, e.getMessage()));
+            return null;
+        }
+
+        VirtualCluster requested = null;
+        for (VirtualCluster virtualCluster : virtualClusters) {
+            VirtualClusterCache.getInstance().put(context.cacheKey(virtualCluster.id()), virtualCluster);
+            if (virtualCluster.id().equals(virtualClusterId)) {
+                requested = virtualCluster;
+            }
+        }
+        return requested;
+    }
 }
@@ -0,0 +1,65 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.function.Function;
+
+/**
+ * The state of one handler invocation. Handlers pass it explicitly instead of keeping it in fields, so a single
+ * handler instance can serve concurrent requests.
+ */
+@AllArgsConstructor
+@Getter
+class RequestContext {
+    private final ProxyClient<EmrContainersClient> proxyClient;
+    private final ResourceHandlerRequest<ResourceModel> request;
+    private final Logger logger;
+    private final MetricsLogger metrics;
+
+    /**
+     * Build the context of a request, with metrics attributed to the virtual cluster it names.
+     *
+     * @param proxy
+     * @param clients the client of a region, {@code ClientBuilder::getClient} outside of priming and tests
+     * @param request
+     * @param logger
+     * @param virtualClusterId
+     * @return
+     */
+    static RequestContext of(final AmazonWebServicesClientProxy proxy,
+                             final Function<String, EmrContainersClient> clients,
+                             final ResourceHandlerRequest<ResourceModel> request,
+                             final Logger logger,
+                             final String virtualClusterId) {
+        return new RequestContext(proxy.newProxy(() -> clients.apply(request.getRegion())), request, logger,
+                new MetricsLogger(logger, request.getClientRequestToken(), virtualClusterId));
+    }
+
+    /**
+     * Invoke an EMR Containers API with the request's credentials, rate limiting and metrics.
+     *
+     * @param apiRequest
+     * @param requestFunction
+     * @return
+     */
+    <RequestT extends AwsRequest, ResultT extends AwsResponse>
+    ResultT invoke(final RequestT apiRequest, final Function<RequestT, ResultT> requestFunction) {
+        return EmrContainersInvoker.getInstance().invoke(proxyClient, metrics, apiRequest, requestFunction);
+    }
+
+    EmrContainersClient getEmrContainersClient() {
+        return proxyClient.client();
+    }
+
+    String cacheKey(final String virtualClusterId) {
+        return VirtualClusterCache.key(request.getAwsAccountId(), virtualClusterId);
+    }
+}
@@ -1,47 +1,183 @@
 package software.amazon.emrcontainers.virtualcluster;
 
-import com.amazonaws.services.emrcontainers.AmazonEMRContainers;
-import com.amazonaws.services.emrcontainers.model.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.InternalServerException;
+import software.amazon.awssdk.services.emrcontainers.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tracks a virtual cluster to the stable state of the operation recorded in the callback context: RUNNING after a
+ * create, TERMINATED after a delete.
+ */
 @AllArgsConstructor
 @Builder
 public class ResourceStabilizer {
-    private AmazonWebServicesClientProxy proxy;
-    private AmazonEMRContainers emrContainersClient;
+    private static final Set<String> KNOWN_STATES = new HashSet<>(Arrays.asList(
+            VirtualClusterState.RUNNING.toString(),
+            VirtualClusterState.TERMINATING.toString(),
+            VirtualClusterState.TERMINATED.toString(),
+            VirtualClusterState.ARRESTED.toString()));
+
+    private ProxyClient<EmrContainersClient> proxyClient;
     private ResourceModel model;
+    private String awsAccountId;
+    @Builder.Default private PollDelayStrategy pollDelayStrategy = ExponentialBackoffPollDelayStrategy.builder().build();
+    @Builder.Default private long pollIntervalMillis = Constants.IN_PROCESS_POLL_INTERVAL_MILLIS;
+    @Builder.Default private MetricsLogger metrics = MetricsLogger.NONE;
+
+    enum Target {
+        CREATE("createVirtualCluster", "CreateStabilization", VirtualClusterState.RUNNING) {
+            @Override
+            boolean isPending(String state) {
+                // A freshly created cluster may not be visible yet, or may report a state this client predates.
+                return state == null || !KNOWN_STATES.contains(state);
+            }
+        },
+        DELETE("deleteVirtualCluster", "DeleteStabilization", VirtualClusterState.TERMINATED) {
+            @Override
+            boolean isPending(String state) {
+                return VirtualClusterState.TERMINATING.toString().equals(state);
+            }
+        };
+
+        private final String operation;
+        private final String metricOperation;
+        private final String stableState;
+
+        Target(String operation, String metricOperation, VirtualClusterState stableState) {
+            this.operation = operation;
+            this.metricOperation = metricOperation;
+            this.stableState = stableState.toString();
+        }
+
+        abstract boolean isPending(String state);
+
+        static Target of(CallbackContext callbackContext) {
+            return Boolean.TRUE.equals(callbackContext.getIsCreateInProgress()) ? CREATE : DELETE;
+        }
+    }
 
     public ProgressEvent<ResourceModel, CallbackContext> stabilizeResource(CallbackContext callbackContext) {
+        return stabilizeResource(callbackContext, 0L);
+    }
+
+    /**
+     * Describe the cluster and, while it has not reached a stable state and the deadline allows another poll, keep
+     * polling in-process instead of going back through CloudFormation.
+     *
+     * @param callbackContext
+     * @param deadlineMillis time after which no further in-process poll is started
+     * @return
+     */
+    public ProgressEvent<ResourceModel, CallbackContext> stabilizeResource(CallbackContext callbackContext,
+                                                                          long deadlineMillis) {
+        final Target target = Target.of(callbackContext);
+        String state = describeState(target);
+        while (target.isPending(state)
+                && hasTimeForAnotherPoll(deadlineMillis)
+                && pause()) {
+            state = describeState(target);
+        }
+
+        if (target.stableState.equals(state)) {
+            return ProgressEvent.defaultSuccessHandler(target == Target.DELETE ? null : model);
+        } else if (target.isPending(state)) {
+            return scheduleNextPoll(callbackContext);
+        } else {
+            String errorMessage = String.format("Cluster %s failed to stabilize due to internal failure", model.getId());
+            if (VirtualClusterState.ARRESTED.toString().equals(state)) {
+                errorMessage = String.format("Cluster %s is in arrested state and failed to stabilize", model.getId());
+            }
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotStabilized, errorMessage);
+        }
+    }
 
-        DescribeVirtualClusterRequest describeVirtualClusterRequest =
-                new DescribeVirtualClusterRequest();
-        describeVirtualClusterRequest.setId(model.getId());
+    /**
+     * Start tracking a cluster whose deletion was just requested. Polls in-process until the deadline and only then
+     * hands over to callback re-invocation.
+     *
+     * @param callbackContext
+     * @param deadlineMillis time after which no further in-process poll is started
+     * @return
+     */
+    public ProgressEvent<ResourceModel, CallbackContext> awaitStabilization(CallbackContext callbackContext,
+                                                                           long deadlineMillis) {
+        if (hasTimeForAnotherPoll(deadlineMillis) && pause()) {
+            return stabilizeResource(callbackContext, deadlineMillis);
+        }
+        return scheduleNextPoll(callbackContext);
+    }
 
+    /**
+     * Re-invoke the handler after the delay chosen by the poll delay strategy, recording the attempt in the callback
+     * context. Fails with NotStabilized once the strategy's time budget is exhausted.
+     *
+     * @param callbackContext
+     * @return
+     */
+    public ProgressEvent<ResourceModel, CallbackContext> scheduleNextPoll(CallbackContext callbackContext) {
+        final long now = System.currentTimeMillis();
+        if (callbackContext.getStabilizationStartTime() == null) {
+            callbackContext.setStabilizationStartTime(now);
+        }
+
+        final long elapsedMillis = now - callbackContext.getStabilizationStartTime();
+        if (pollDelayStrategy.isTimedOut(elapsedMillis)) {
+            String errorMessage = String.format("Cluster %s failed to stabilize within %d seconds",
+                    model.getId(), elapsedMillis / 1000);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotStabilized, errorMessage);
+        }
+
+        final int attempt = callbackContext.getStabilizationAttempts();
+        callbackContext.setStabilizationAttempts(attempt + 1);
+        metrics.recordStabilizationAttempt(Target.of(callbackContext).metricOperation, attempt + 1);
+        return ProgressEvent.defaultInProgressHandler(callbackContext, pollDelayStrategy.getDelaySeconds(attempt), model);
+    }
+
+    private String describeState(Target target) {
         try {
-            String state = proxy.injectCredentialsAndInvoke(
-                    describeVirtualClusterRequest, emrContainersClient::describeVirtualCluster)
-                    .getVirtualCluster().getState();
-            if (VirtualClusterState.TERMINATED.toString().equals(state)) {
-                return ProgressEvent.defaultSuccessHandler(null);
-            } else if(VirtualClusterState.TERMINATING.toString().equals(state)) {
-                return ProgressEvent.defaultInProgressHandler(callbackContext, Constants.CALLBACK_DELAY_SECONDS, model);
-            } else {
-                String errorMessage = String.format("Cluster %s failed to stabilize due to internal failure", model.getId());
-                if (VirtualClusterState.ARRESTED.toString().equals(state)) {
-                    errorMessage = String.format("Cluster %s is in arrested state and failed to stabilize", model.getId());
-                }
-                return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotStabilized, errorMessage);
+            // Always describe afresh while stabilizing, but share the result with readers of the same cluster.
+            final VirtualCluster virtualCluster = EmrContainersInvoker.getInstance().invoke(proxyClient, metrics,
+                    Translator.translateToReadRequest(model.getId()), proxyClient.client()::describeVirtualCluster)
+                    .virtualCluster();
+            VirtualClusterCache.getInstance().put(VirtualClusterCache.key(awsAccountId, model.getId()), virtualCluster);
+            return virtualCluster.stateAsString();
+        } catch (ResourceNotFoundException e) {
+            if (target == Target.CREATE) {
+                return null;
             }
+            throw new CfnInvalidRequestException(e.getMessage(), e);
         } catch (InternalServerException e) {
-            throw new CfnGeneralServiceException("deleteVirtualCluster", e);
-        } catch (AmazonEMRContainersException e) {
+            throw new CfnGeneralServiceException(target.operation, e);
+        } catch (EmrContainersException e) {
             throw new CfnInvalidRequestException(e.getMessage(), e);
         }
     }
+
+    private boolean hasTimeForAnotherPoll(long deadlineMillis) {
+        return System.currentTimeMillis() + pollIntervalMillis < deadlineMillis;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+/**
+ * Caps the share of calls that may be retries. Every retry spends one token and every successful call earns back a
+ * fraction of one, so a burst of throttling drains the budget and stops retries from amplifying the overload.
+ */
+public class RetryBudget {
+    private final double capacity;
+    private final double depositPerSuccess;
+    private double balance;
+
+    public RetryBudget(final int capacity, final double depositPerSuccess) {
+        this.capacity = capacity;
+        this.depositPerSuccess = depositPerSuccess;
+        this.balance = capacity;
+    }
+
+    public synchronized void onSuccess() {
+        balance = Math.min(capacity, balance + depositPerSuccess);
+    }
+
+    /**
+     * Spend a token for a retry.
+     *
+     * @return whether the retry is allowed
+     */
+    public synchronized boolean tryWithdraw() {
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+}
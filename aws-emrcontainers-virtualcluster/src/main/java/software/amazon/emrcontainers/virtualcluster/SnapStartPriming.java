@@ -0,0 +1,169 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import com.amazonaws.services.lambda.runtime.LambdaRuntime;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.cloudformation.loggers.LambdaLogPublisher;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerRequest;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Checkpoint/restore hooks for Lambda SnapStart (java11 and later runtimes, see {@code template.yml}) and other CRaC
+ * runtimes. Before the checkpoint every handler runs once through the client stack against a local stub endpoint, and
+ * the handler request and response types go through the wrapper's serializer, so the snapshot already holds loaded and
+ * initialized SDK marshallers, Jackson (de)serializers and translation code. After restore the shared clients are
+ * dropped, because their pooled connections and resolved endpoints belong to the environment the snapshot was taken in;
+ * they are rebuilt on first use. Credentials need no refresh since they are injected per request. Priming talks to the
+ * stub through a client of its own, so the shared clients of {@link ClientBuilder} are never pointed at it.
+ *
+ * <p>Priming is best effort: a failure is logged and the checkpoint goes ahead with a less warm snapshot. The hooks
+ * are only registered on runtimes that can take a checkpoint (see {@code Configuration}), so a plain JVM never loads
+ * this class or {@code org.crac}.
+ */
+public class SnapStartPriming implements Resource {
+    private static final String REQUEST_JSON = "{\"action\":\"UPDATE\",\"region\":\"us-east-1\","
+            + "\"awsAccountId\":\"123456789012\",\"resourceType\":\"" + ResourceModel.TYPE_NAME + "\","
+            + "\"requestData\":{\"resourceProperties\":{\"Id\":\"" + StubEmrContainersEndpoint.VIRTUAL_CLUSTER_ID + "\","
+            + "\"Name\":\"stub\",\"Tags\":[{\"Key\":\"key\",\"Value\":\"value\"}]},"
+            + "\"previousResourceProperties\":{\"Id\":\"" + StubEmrContainersEndpoint.VIRTUAL_CLUSTER_ID + "\"}},"
+            + "\"callbackContext\":{\"isCreateInProgress\":true,\"stabilizationAttempts\":1,"
+            + "\"virtualClusterId\":\"" + StubEmrContainersEndpoint.VIRTUAL_CLUSTER_ID + "\"}}";
+
+    /** The global context only keeps weak references to its resources. */
+    private static final SnapStartPriming INSTANCE = new SnapStartPriming();
+
+    private final Logger logger;
+
+    public SnapStartPriming() {
+        this(lambdaLogger());
+    }
+
+    SnapStartPriming(final Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Run one priming pass in a fresh JVM and report how long the JVM took to get through it. Run against the
+     * packaged jar this exercises every handler with only the classes that made it into the jar, and the time is
+     * comparable between the regular and the minimized jar.
+     *
+     * @param args
+     * @throws Exception
+     */
+    public static void main(final String[] args) throws Exception {
+        prime();
+        lambdaLogger().log(String.format("Primed every handler %d ms after JVM start",
+                ManagementFactory.getRuntimeMXBean().getUptime()));
+    }
+
+    /**
+     * Register the hooks with the global checkpoint/restore context. Safe to call more than once.
+     */
+    static void register() {
+        Core.getGlobalContext().register(INSTANCE);
+    }
+
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+        try {
+            prime();
+        } catch (Exception e) {
+            // A failure here would abort the checkpoint and with it the publish of the function version.
+            logger.log(String.format("Priming before checkpoint failed, taking the snapshot without it: %s", e));
+        }
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+        ClientBuilder.reset();
+        VirtualClusterCache.getInstance().clear();
+    }
+
+    /**
+     * Exercise the request paths of every handler against a local stub and leave no trace of it in the shared
+     * clients or the describe cache.
+     *
+     * @throws Exception
+     */
+    static void prime() throws Exception {
+        new Configuration().resourceSchemaJSONObject();
+
+        final Serializer serializer = new Serializer();
+        final HandlerRequest<ResourceModel, CallbackContext, TypeConfigurationModel> handlerRequest = serializer.deserialize(REQUEST_JSON,
+                new TypeReference<HandlerRequest<ResourceModel, CallbackContext, TypeConfigurationModel>>() { });
+
+        try (StubEmrContainersEndpoint stub = StubEmrContainersEndpoint.start()) {
+            final EmrContainersClient client = ClientBuilder.buildClient(handlerRequest.getRegion(), stub.getEndpoint());
+            final Function<String, EmrContainersClient> clients = region -> client;
+            try {
+                final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                        new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                        () -> TimeUnit.MINUTES.toMillis(1));
+                // Without publishers the handlers' own logging during priming stays out of the function's logs.
+                final LoggerProxy handlerLogger = new LoggerProxy();
+                final ResourceModel model = handlerRequest.getRequestData().getResourceProperties();
+
+                serializer.serialize(new CreateHandler(0L, 0L, clients).handleRequest(proxy,
+                        request(handlerRequest, ResourceModel.builder()
+                                .name(model.getName())
+                                .containerProvider(ContainerProvider.builder()
+                                        .id(StubEmrContainersEndpoint.EKS_CLUSTER_ID)
+                                        .type("EKS")
+                                        .info(ContainerInfo.builder()
+                                                .eksInfo(EksInfo.builder().namespace(StubEmrContainersEndpoint.NAMESPACE).build())
+                                                .build())
+                                        .build())
+                                .build()),
+                        null, handlerLogger));
+                serializer.serialize(new CreateHandler(0L, 0L, clients).handleRequest(proxy,
+                        request(handlerRequest, model), handlerRequest.getCallbackContext(), handlerLogger));
+                serializer.serialize(new ReadHandler(clients).handleRequest(proxy, request(handlerRequest, model), null, handlerLogger));
+                serializer.serialize(new UpdateHandler(clients).handleRequest(proxy, request(handlerRequest, model), null, handlerLogger));
+                serializer.serialize(new ListHandler(Constants.LIST_PAGE_SIZE, clients).handleRequest(proxy,
+                        request(handlerRequest, ResourceModel.builder().build()), null, handlerLogger));
+                serializer.serialize(new DeleteHandler(0L, 0L, clients).handleRequest(proxy,
+                        request(handlerRequest, model), null, handlerLogger));
+            } finally {
+                client.close();
+                VirtualClusterCache.getInstance().clear();
+            }
+        }
+    }
+
+    /**
+     * A logger that writes to the function's log stream when running in Lambda and to stdout otherwise.
+     *
+     * @return
+     */
+    private static Logger lambdaLogger() {
+        final LoggerProxy loggerProxy = new LoggerProxy();
+        loggerProxy.addLogPublisher(new LambdaLogPublisher(LambdaRuntime.getLogger()));
+        return loggerProxy;
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(
+            final HandlerRequest<ResourceModel, CallbackContext, TypeConfigurationModel> handlerRequest,
+            final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(Collections.singletonMap("key", "primed"))
+                .previousResourceTags(Collections.singletonMap("key", "value"))
+                .region(handlerRequest.getRegion())
+                .awsAccountId(handlerRequest.getAwsAccountId())
+                .clientRequestToken("snapstart-priming")
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Local HTTP endpoint answering every EMR Containers call the handlers make with canned responses for one RUNNING
+ * cluster. Used to run the handlers' client paths without reaching the service, when priming a snapshot and in
+ * startup benchmarks.
+ */
+class StubEmrContainersEndpoint implements AutoCloseable {
+    static final String VIRTUAL_CLUSTER_ID = "vc0123456789";
+    static final String EKS_CLUSTER_ID = "eks-cluster";
+    static final String NAMESPACE = "default";
+
+    private static final String VIRTUAL_CLUSTER_JSON = "{\"id\":\"" + VIRTUAL_CLUSTER_ID + "\","
+            + "\"name\":\"stub\","
+            + "\"arn\":\"arn:aws:emr-containers:us-east-1:123456789012:/virtualclusters/" + VIRTUAL_CLUSTER_ID + "\","
+            + "\"state\":\"RUNNING\","
+            + "\"containerProvider\":{\"id\":\"" + EKS_CLUSTER_ID + "\",\"type\":\"EKS\","
+            + "\"info\":{\"eksInfo\":{\"namespace\":\"" + NAMESPACE + "\"}}},"
+            + "\"createdAt\":\"2020-09-13T12:26:40Z\","
+            + "\"tags\":{\"key\":\"value\"}}";
+
+    private final HttpServer server;
+
+    private StubEmrContainersEndpoint(final HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Start the stub on a free loopback port.
+     *
+     * @return
+     * @throws IOException
+     */
+    static StubEmrContainersEndpoint start() throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", StubEmrContainersEndpoint::respond);
+        server.start();
+        return new StubEmrContainersEndpoint(server);
+    }
+
+    String getEndpoint() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static void respond(final HttpExchange exchange) throws IOException {
+        final String method = exchange.getRequestMethod();
+        final String path = exchange.getRequestURI().getPath();
+
+        final String body;
+        if ("POST".equals(method) && "/virtualclusters".equals(path)) {
+            body = VIRTUAL_CLUSTER_JSON;
+        } else if ("GET".equals(method) && "/virtualclusters".equals(path)) {
+            body = "{\"virtualClusters\":[" + VIRTUAL_CLUSTER_JSON + "]}";
+        } else if ("GET".equals(method)) {
+            body = "{\"virtualCluster\":" + VIRTUAL_CLUSTER_JSON + "}";
+        } else if ("DELETE".equals(method) && path.startsWith("/virtualclusters/")) {
+            body = "{\"id\":\"" + VIRTUAL_CLUSTER_ID + "\"}";
+        } else {
+            body = "{}";
+        }
+
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+}
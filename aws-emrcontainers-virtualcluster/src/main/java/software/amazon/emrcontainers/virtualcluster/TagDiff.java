@@ -0,0 +1,100 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Difference between the tags currently on a resource and the desired tags, computed on the key/value maps. Keys
+ * whose value changed are only re-tagged, since TagResource overwrites the value of an existing key.
+ */
+public class TagDiff {
+    private static final String SYSTEM_TAG_PREFIX = "aws:";
+
+    private final Map<String, String> tagsToAdd;
+    private final List<String> tagKeysToRemove;
+
+    private TagDiff(final Map<String, String> tagsToAdd, final List<String> tagKeysToRemove) {
+        this.tagsToAdd = tagsToAdd;
+        this.tagKeysToRemove = tagKeysToRemove;
+    }
+
+    /**
+     * Compare the existing tags with the desired tags. System tags are never removed.
+     *
+     * @param existingTags tags on the resource, may be null
+     * @param desiredTags tags the resource should have, may be null
+     * @return
+     */
+    public static TagDiff between(final Map<String, String> existingTags, final Map<String, String> desiredTags) {
+        final Map<String, String> existing = existingTags == null ? Collections.emptyMap() : existingTags;
+        final Map<String, String> desired = desiredTags == null ? Collections.emptyMap() : desiredTags;
+
+        final Map<String, String> tagsToAdd = new HashMap<>();
+        for (Map.Entry<String, String> tag : desired.entrySet()) {
+            if (!existing.containsKey(tag.getKey()) || !Objects.equals(existing.get(tag.getKey()), tag.getValue())) {
+                tagsToAdd.put(tag.getKey(), tag.getValue());
+            }
+        }
+
+        final List<String> tagKeysToRemove = new ArrayList<>();
+        for (String key : existing.keySet()) {
+            if (!desired.containsKey(key) && !isSystemTag(key)) {
+                tagKeysToRemove.add(key);
+            }
+        }
+        return new TagDiff(tagsToAdd, tagKeysToRemove);
+    }
+
+    private static boolean isSystemTag(final String key) {
+        return key.regionMatches(true, 0, SYSTEM_TAG_PREFIX, 0, SYSTEM_TAG_PREFIX.length());
+    }
+
+    public Map<String, String> getTagsToAdd() {
+        return tagsToAdd;
+    }
+
+    public List<String> getTagKeysToRemove() {
+        return tagKeysToRemove;
+    }
+
+    public boolean isEmpty() {
+        return tagsToAdd.isEmpty() && tagKeysToRemove.isEmpty();
+    }
+
+    /**
+     * Split the tags to add into batches of at most {@code batchSize} tags each.
+     *
+     * @param batchSize
+     * @return
+     */
+    public List<Map<String, String>> tagsToAddInBatchesOf(final int batchSize) {
+        final List<Map<String, String>> batches = new ArrayList<>();
+        Map<String, String> batch = null;
+        for (Map.Entry<String, String> tag : tagsToAdd.entrySet()) {
+            if (batch == null || batch.size() == batchSize) {
+                batch = new HashMap<>();
+                batches.add(batch);
+            }
+            batch.put(tag.getKey(), tag.getValue());
+        }
+        return batches;
+    }
+
+    /**
+     * Split the tag keys to remove into batches of at most {@code batchSize} keys each.
+     *
+     * @param batchSize
+     * @return
+     */
+    public List<List<String>> tagKeysToRemoveInBatchesOf(final int batchSize) {
+        final List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < tagKeysToRemove.size(); from += batchSize) {
+            batches.add(tagKeysToRemove.subList(from, Math.min(from + batchSize, tagKeysToRemove.size())));
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,50 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket that paces calls to at most {@code permitsPerSecond} on average while allowing short bursts of up to
+ * {@code burstCapacity} calls.
+ */
+public class TokenBucketRateLimiter {
+    private final double permitsPerNano;
+    private final double burstCapacity;
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(final double permitsPerSecond, final int burstCapacity) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burstCapacity = burstCapacity;
+        this.availablePermits = burstCapacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Block until a permit is available and take it.
+     *
+     * @throws InterruptedException
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tryAcquire()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Take a permit if one is available.
+     *
+     * @return 0 when a permit was taken, otherwise the time in nanoseconds until the next permit is available
+     */
+    synchronized long tryAcquire() {
+        final long now = System.nanoTime();
+        availablePermits = Math.min(burstCapacity, availablePermits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+
+        if (availablePermits >= 1) {
+            availablePermits -= 1;
+            return 0;
+        }
+        return Math.max(1L, (long) Math.ceil((1 - availablePermits) / permitsPerNano));
+    }
+}
@@ -1,59 +1,153 @@
 package software.amazon.emrcontainers.virtualcluster;
 
+import software.amazon.awssdk.services.emrcontainers.model.CreateVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DeleteVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersRequest;
+import software.amazon.awssdk.services.emrcontainers.model.TagResourceRequest;
+import software.amazon.awssdk.services.emrcontainers.model.UntagResourceRequest;
+
 import java.util.*;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class Translator {
 
-    static com.amazonaws.services.emrcontainers.model.ContainerProvider translate(ContainerProvider in) {
+    static CreateVirtualClusterRequest translateToCreateRequest(final ResourceModel model,
+                                                                final Map<String, String> tags,
+                                                                final String clientToken) {
+        return CreateVirtualClusterRequest.builder()
+                .name(model.getName())
+                .containerProvider(translate(model.getContainerProvider()))
+                .tags(tags)
+                .clientToken(clientToken)
+                .build();
+    }
 
-        com.amazonaws.services.emrcontainers.model.ContainerProvider containerProvider =
-                new com.amazonaws.services.emrcontainers.model.ContainerProvider();
-        containerProvider.setId(in.getId());
-        containerProvider.setType(in.getType());
-        containerProvider.setInfo(translate(in.getInfo()));
+    static DescribeVirtualClusterRequest translateToReadRequest(final String virtualClusterId) {
+        return DescribeVirtualClusterRequest.builder()
+                .id(virtualClusterId)
+                .build();
+    }
 
-        return containerProvider;
+    static DeleteVirtualClusterRequest translateToDeleteRequest(final String virtualClusterId) {
+        return DeleteVirtualClusterRequest.builder()
+                .id(virtualClusterId)
+                .build();
     }
 
-    static com.amazonaws.services.emrcontainers.model.ContainerInfo translate(ContainerInfo in) {
+    /**
+     * Build a request for a page of the active virtual clusters, narrowed to the container provider of the model
+     * when it names one.
+     *
+     * @param nextToken
+     * @param pageSize
+     * @param model may be null
+     * @return
+     */
+    static ListVirtualClustersRequest translateToListRequest(final String nextToken,
+                                                             final int pageSize,
+                                                             final ResourceModel model) {
+        final ListVirtualClustersRequest.Builder builder = ListVirtualClustersRequest.builder()
+                .nextToken(nextToken)
+                .maxResults(pageSize)
+                .states(Constants.ACTIVE_VIRTUAL_CLUSTER_STATES);
+        if (model != null && model.getContainerProvider() != null) {
+            builder.containerProviderId(model.getContainerProvider().getId())
+                    .containerProviderType(model.getContainerProvider().getType());
+        }
+        return builder.build();
+    }
 
-        com.amazonaws.services.emrcontainers.model.ContainerInfo containerInfo =
-                new com.amazonaws.services.emrcontainers.model.ContainerInfo();
-        containerInfo.setEksInfo(translate(in.getEksInfo()));
+    static TagResourceRequest translateToTagRequest(final String arn, final Map<String, String> tags) {
+        return TagResourceRequest.builder()
+                .resourceArn(arn)
+                .tags(tags)
+                .build();
+    }
 
-        return containerInfo;
+    static UntagResourceRequest translateToUntagRequest(final String arn, final List<String> tagKeys) {
+        return UntagResourceRequest.builder()
+                .resourceArn(arn)
+                .tagKeys(tagKeys)
+                .build();
     }
 
-    static com.amazonaws.services.emrcontainers.model.EksInfo translate(EksInfo in) {
+    static ResourceModel translate(software.amazon.awssdk.services.emrcontainers.model.VirtualCluster in) {
+        return ResourceModel.builder()
+                .arn(in.arn())
+                .containerProvider(translate(in.containerProvider()))
+                .id(in.id())
+                .name(in.name())
+                .tags(toTagSet(in.tags()))
+                .build();
+    }
 
-        com.amazonaws.services.emrcontainers.model.EksInfo eksInfo =
-                new com.amazonaws.services.emrcontainers.model.EksInfo();
-        eksInfo.setNamespace(in.getNamespace());
+    /**
+     * Translate a page of virtual clusters. Container descriptions repeat across the clusters of one EKS cluster
+     * and across EKS clusters using the same namespace names, so equal ones are translated once and shared by the
+     * models of this page.
+     *
+     * @param in
+     * @return
+     */
+    static List<ResourceModel> toResourceModels(List<software.amazon.awssdk.services.emrcontainers.model.VirtualCluster> in) {
+        if (in == null || in.isEmpty()) {
+            return new ArrayList<>(0);
+        }
 
-        return eksInfo;
+        final ContainerProviderInterner interner = new ContainerProviderInterner();
+        final List<ResourceModel> models = new ArrayList<>(in.size());
+        for (software.amazon.awssdk.services.emrcontainers.model.VirtualCluster virtualCluster : in) {
+            models.add(ResourceModel.builder()
+                    .arn(virtualCluster.arn())
+                    .containerProvider(interner.translate(virtualCluster.containerProvider()))
+                    .id(virtualCluster.id())
+                    .name(virtualCluster.name())
+                    .tags(toTagSet(virtualCluster.tags()))
+                    .build());
+        }
+        return models;
     }
 
-    static ContainerProvider translate(com.amazonaws.services.emrcontainers.model.ContainerProvider in) {
-        ContainerProvider containerProvider = ContainerProvider.builder()
+    static software.amazon.awssdk.services.emrcontainers.model.ContainerProvider translate(ContainerProvider in) {
+        return software.amazon.awssdk.services.emrcontainers.model.ContainerProvider.builder()
                 .id(in.getId())
                 .type(in.getType())
                 .info(translate(in.getInfo()))
                 .build();
+    }
+
+    static software.amazon.awssdk.services.emrcontainers.model.ContainerInfo translate(ContainerInfo in) {
+        return software.amazon.awssdk.services.emrcontainers.model.ContainerInfo.builder()
+                .eksInfo(translate(in.getEksInfo()))
+                .build();
+    }
+
+    static software.amazon.awssdk.services.emrcontainers.model.EksInfo translate(EksInfo in) {
+        return software.amazon.awssdk.services.emrcontainers.model.EksInfo.builder()
+                .namespace(in.getNamespace())
+                .build();
+    }
+
+    static ContainerProvider translate(software.amazon.awssdk.services.emrcontainers.model.ContainerProvider in) {
+        ContainerProvider containerProvider = ContainerProvider.builder()
+                .id(in.id())
+                .type(in.typeAsString())
+                .info(translate(in.info()))
+                .build();
         return containerProvider;
     }
 
-    static ContainerInfo translate(com.amazonaws.services.emrcontainers.model.ContainerInfo in) {
+    static ContainerInfo translate(software.amazon.awssdk.services.emrcontainers.model.ContainerInfo in) {
         ContainerInfo containerInfo = ContainerInfo.builder()
-                .eksInfo(translate(in.getEksInfo()))
+                .eksInfo(translate(in.eksInfo()))
                 .build();
         return containerInfo;
     }
 
-    static EksInfo translate(com.amazonaws.services.emrcontainers.model.EksInfo in) {
+    static EksInfo translate(software.amazon.awssdk.services.emrcontainers.model.EksInfo in) {
         EksInfo eksInfo = EksInfo.builder()
-                .namespace(in.getNamespace())
+                .namespace(in.namespace())
                 .build();
         return eksInfo;
     }
@@ -62,15 +156,67 @@ public class Translator {
         if (tags == null) {
             return Collections.emptySet();
         }
-        return tags.keySet()
-                .stream()
-                .map((key) -> {
-                    return Tag.builder().key(key).value(tags.get(key)).build();
-                }).collect(Collectors.toSet());
+        final Set<Tag> tagSet = new HashSet<>(capacityFor(tags.size()));
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            tagSet.add(Tag.builder().key(tag.getKey()).value(tag.getValue()).build());
+        }
+        return tagSet;
     }
 
     static Map<String, String> toTagMap(Set<Tag> tags) {
-        return streamOfOrEmpty(tags).collect(Collectors.toMap(Tag::getKey, Tag::getValue));
+        if (tags == null) {
+            return new HashMap<>(0);
+        }
+        final Map<String, String> tagMap = new HashMap<>(capacityFor(tags.size()));
+        for (Tag tag : tags) {
+            if (tagMap.put(tag.getKey(), tag.getValue()) != null) {
+                throw new IllegalStateException(String.format("Duplicate key %s", tag.getKey()));
+            }
+        }
+        return tagMap;
+    }
+
+    private static int capacityFor(int size) {
+        return size * 4 / 3 + 1;
+    }
+
+    /**
+     * Translates container providers, reusing the translation of an equal provider or of an equal namespace seen
+     * earlier. The shared instances are only ever read, by serialization of the response.
+     */
+    private static class ContainerProviderInterner {
+        private final Map<software.amazon.awssdk.services.emrcontainers.model.ContainerProvider, ContainerProvider> containerProviders =
+                new HashMap<>();
+        private final Map<software.amazon.awssdk.services.emrcontainers.model.ContainerInfo, ContainerInfo> containerInfos =
+                new HashMap<>();
+
+        ContainerProvider translate(software.amazon.awssdk.services.emrcontainers.model.ContainerProvider in) {
+            if (in == null) {
+                return null;
+            }
+            ContainerProvider containerProvider = containerProviders.get(in);
+            if (containerProvider == null) {
+                containerProvider = ContainerProvider.builder()
+                        .id(in.id())
+                        .type(in.typeAsString())
+                        .info(translate(in.info()))
+                        .build();
+                containerProviders.put(in, containerProvider);
+            }
+            return containerProvider;
+        }
+
+        private ContainerInfo translate(software.amazon.awssdk.services.emrcontainers.model.ContainerInfo in) {
+            if (in == null) {
+                return null;
+            }
+            ContainerInfo containerInfo = containerInfos.get(in);
+            if (containerInfo == null) {
+                containerInfo = Translator.translate(in);
+                containerInfos.put(in, containerInfo);
+            }
+            return containerInfo;
+        }
     }
 
     static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
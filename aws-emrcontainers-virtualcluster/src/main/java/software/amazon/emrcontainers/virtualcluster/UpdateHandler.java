@@ -1,9 +1,13 @@
 package software.amazon.emrcontainers.virtualcluster;
 
-import com.amazonaws.services.emrcontainers.AmazonEMRContainers;
-import com.amazonaws.services.emrcontainers.AmazonEMRContainersClientBuilder;
-import com.amazonaws.services.emrcontainers.model.*;
-import com.amazonaws.util.StringUtils;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.InternalServerException;
+import software.amazon.awssdk.services.emrcontainers.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrcontainers.model.TagResourceRequest;
+import software.amazon.awssdk.services.emrcontainers.model.UntagResourceRequest;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -14,12 +18,18 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 public class UpdateHandler extends BaseHandler<CallbackContext> {
-    private Logger logger;
-    private AmazonWebServicesClientProxy clientProxy;
-    private AmazonEMRContainers emrContainersClient;
+    private final Function<String, EmrContainersClient> clients;
+
+    public UpdateHandler() {
+        this(ClientBuilder::getClient);
+    }
+
+    UpdateHandler(final Function<String, EmrContainersClient> clients) {
+        this.clients = clients;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -28,77 +38,113 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         final CallbackContext callbackContext,
         final Logger logger) {
 
-        this.logger = logger;
-        clientProxy = proxy;
-        emrContainersClient = AmazonEMRContainersClientBuilder.defaultClient();
-
         final ResourceModel model = request.getDesiredResourceState();
+        final RequestContext context = RequestContext.of(proxy, clients, request, logger, model.getId());
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModel(update(model, request))
+            .resourceModel(update(context, model))
             .status(OperationStatus.SUCCESS)
             .build();
     }
 
-    private ResourceModel update(ResourceModel model, ResourceHandlerRequest<ResourceModel> request) {
-        DescribeVirtualClusterRequest describeVirtualClusterRequest = new DescribeVirtualClusterRequest();
-        describeVirtualClusterRequest.setId(model.getId());
+    private ResourceModel update(RequestContext context, ResourceModel model) {
+        final ResourceHandlerRequest<ResourceModel> request = context.getRequest();
+        final String cacheKey = context.cacheKey(model.getId());
+
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (previousModel != null && previousModel.getArn() != null) {
+            // Tags are the only updatable property, and the previous state already holds the ARN and the tags the
+            // stack last applied, so a tag change can go straight to the mutations.
+            final TagDiff tagDiff = TagDiff.between(request.getPreviousResourceTags(), request.getDesiredResourceTags());
+            if (!tagDiff.isEmpty()) {
+                try {
+                    applyTagDiff(context, model, previousModel.getArn(), tagDiff, cacheKey);
+                    model.setArn(previousModel.getArn());
+                    model.setName(previousModel.getName());
+                    return model;
+                } catch (CfnNotFoundException e) {
+                    // The previous state may be stale, or the cluster may be terminated and reject tag calls; let
+                    // Describe decide whether the cluster is really gone and which tags it still has. Any other
+                    // failure is the update's outcome and is reported as is.
+                }
+            }
+        }
 
-        DescribeVirtualClusterResult describeVirtualClusterResult;
         VirtualCluster virtualCluster;
         try {
-             describeVirtualClusterResult =
-                clientProxy.injectCredentialsAndInvoke(describeVirtualClusterRequest, emrContainersClient::describeVirtualCluster);
-            virtualCluster = describeVirtualClusterResult.getVirtualCluster();
-            if (virtualCluster.getState().equals(VirtualClusterState.TERMINATED.toString())) {
+            // Always describe afresh: the tag diff is computed from these tags, and a cached description would miss
+            // tags changed by another container within the cache TTL. The fresh result still serves later reads.
+            virtualCluster = context.invoke(Translator.translateToReadRequest(model.getId()),
+                    context.getEmrContainersClient()::describeVirtualCluster)
+                .virtualCluster();
+            VirtualClusterCache.getInstance().put(cacheKey, virtualCluster);
+            if (virtualCluster.state() == VirtualClusterState.TERMINATED) {
                 throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getId());
             }
-        } catch(com.amazonaws.services.emrcontainers.model.ResourceNotFoundException e) {
+        } catch(ResourceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getId());
         } catch (InternalServerException e) {
             throw new CfnGeneralServiceException("describeVirtualCluster", e);
-        } catch (AmazonEMRContainersException e) {
+        } catch (EmrContainersException e) {
             throw new CfnInvalidRequestException(e.getMessage(), e);
         }
 
-        String arn = virtualCluster.getArn();
-        final Set<Tag> existingTags = Translator.toTagSet(describeVirtualClusterResult.getVirtualCluster().getTags());
-        final Set<Tag> latestTags = Translator.toTagSet(request.getDesiredResourceTags());
-
-        final Set<Tag> tagsToRemove = new HashSet<>(existingTags);
-        tagsToRemove.removeIf(latestTags::contains);
+        String arn = virtualCluster.arn();
+        applyTagDiff(context, model, arn, TagDiff.between(virtualCluster.tags(), request.getDesiredResourceTags()), cacheKey);
 
-        final Set<Tag> tagsToAdd = new HashSet<>(latestTags);
-        tagsToAdd.removeIf(existingTags::contains);
+        model.setArn(arn);
+        model.setName(virtualCluster.name());
+        return model;
+    }
 
-        if (tagsToRemove.size() > 0) {
-            UntagResourceRequest untagResourceRequest = new UntagResourceRequest();
-            untagResourceRequest.setResourceArn(arn);
-            untagResourceRequest.setTagKeys(getFilteredTagKeys(tagsToRemove));
-            clientProxy.injectCredentialsAndInvoke(untagResourceRequest, emrContainersClient::untagResource);
+    /**
+     * Untag removed keys and tag added or re-valued ones, invalidating the cached description of the cluster.
+     *
+     * @param context
+     * @param model
+     * @param arn
+     * @param tagDiff
+     * @param cacheKey
+     */
+    private void applyTagDiff(RequestContext context, ResourceModel model, String arn, TagDiff tagDiff, String cacheKey) {
+        final List<Runnable> mutations = new ArrayList<>();
+        for (List<String> tagKeys : tagDiff.tagKeysToRemoveInBatchesOf(Constants.TAG_BATCH_SIZE)) {
+            UntagResourceRequest untagResourceRequest = Translator.translateToUntagRequest(arn, tagKeys);
+            mutations.add(() -> mutate("untagResource", model.getId(), () ->
+                context.invoke(untagResourceRequest, context.getEmrContainersClient()::untagResource)));
         }
 
-        if (tagsToAdd.size() > 0) {
-            TagResourceRequest tagResourceRequest = new TagResourceRequest();
-            tagResourceRequest.setResourceArn(arn);
-            tagResourceRequest.setTags(Translator.toTagMap(tagsToAdd));
-            clientProxy.injectCredentialsAndInvoke(tagResourceRequest, emrContainersClient::tagResource);
+        for (Map<String, String> tags : tagDiff.tagsToAddInBatchesOf(Constants.TAG_BATCH_SIZE)) {
+            TagResourceRequest tagResourceRequest = Translator.translateToTagRequest(arn, tags);
+            mutations.add(() -> mutate("tagResource", model.getId(), () ->
+                context.invoke(tagResourceRequest, context.getEmrContainersClient()::tagResource)));
         }
 
-        model.setArn(arn);
-        model.setName(virtualCluster.getName());
-        return model;
+        // Removed and added keys are disjoint, so all tag mutations can be issued at once.
+        try {
+            MutationExecutor.runAll(mutations);
+        } finally {
+            if (!mutations.isEmpty()) {
+                VirtualClusterCache.getInstance().invalidate(cacheKey);
+            }
+        }
     }
 
     /**
-     * Get non-system tag keys for untag request.
+     * Run a tag mutation and map its failure to the CloudFormation exception reported for it.
      *
-     * @param tags
-     * @return
+     * @param operation
+     * @param virtualClusterId
+     * @param call
      */
-    private List<String> getFilteredTagKeys(Set<Tag> tags) {
-        return Translator.streamOfOrEmpty(tags)
-                .filter(tag -> !StringUtils.beginsWithIgnoreCase(tag.getKey(), "aws:"))
-                .map(Tag::getKey)
-                .collect(Collectors.toList());
+    private void mutate(String operation, String virtualClusterId, Runnable call) {
+        try {
+            call.run();
+        } catch (ResourceNotFoundException e) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, virtualClusterId);
+        } catch (InternalServerException e) {
+            throw new CfnGeneralServiceException(operation, e);
+        } catch (EmrContainersException e) {
+            throw new CfnInvalidRequestException(e.getMessage(), e);
+        }
     }
 }
@@ -0,0 +1,126 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.InternalServerException;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersResponse;
+import software.amazon.awssdk.services.emrcontainers.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads many virtual clusters at once by scanning ListVirtualClusters pages into an ID-indexed map, instead of
+ * issuing one DescribeVirtualCluster per ID. Terminated and unknown clusters are left out of the result, matching
+ * what {@link ReadHandler} reports as not found. {@link ReadHandler} uses a scan to fill the describe cache when it
+ * sees a burst of reads.
+ */
+@AllArgsConstructor
+@Builder
+public class VirtualClusterBatchReader {
+    private ProxyClient<EmrContainersClient> proxyClient;
+    @Builder.Default private int pageSize = Constants.LIST_PAGE_SIZE;
+    @Builder.Default private MetricsLogger metrics = MetricsLogger.NONE;
+
+    /**
+     * Resolve the given IDs. The scan stops as soon as every ID has been seen; IDs the scan did not return are
+     * looked up individually with DescribeVirtualCluster.
+     *
+     * @param ids
+     * @return models keyed by virtual cluster ID
+     */
+    public Map<String, ResourceModel> read(Collection<String> ids) {
+        final Set<String> pendingIds = new HashSet<>(ids);
+        final Map<String, ResourceModel> models = new HashMap<>(pendingIds.size() * 4 / 3 + 1);
+
+        String nextToken = null;
+        do {
+            final ListVirtualClustersResponse page = listPage(nextToken);
+            for (VirtualCluster virtualCluster : page.virtualClusters()) {
+                if (pendingIds.remove(virtualCluster.id())) {
+                    models.put(virtualCluster.id(), Translator.translate(virtualCluster));
+                }
+            }
+            nextToken = page.nextToken();
+        } while (nextToken != null && !pendingIds.isEmpty());
+
+        for (String id : pendingIds) {
+            final VirtualCluster virtualCluster = describe(id);
+            if (virtualCluster != null) {
+                models.put(id, Translator.translate(virtualCluster));
+            }
+        }
+        return models;
+    }
+
+    /**
+     * Read every active virtual cluster in the account and region.
+     *
+     * @return models keyed by virtual cluster ID
+     */
+    public Map<String, ResourceModel> readAll() {
+        final Map<String, ResourceModel> models = new HashMap<>();
+        for (VirtualCluster virtualCluster : scan()) {
+            models.put(virtualCluster.id(), Translator.translate(virtualCluster));
+        }
+        return models;
+    }
+
+    /**
+     * List every active virtual cluster in the account and region as returned by the service, for callers that
+     * cache the descriptions.
+     *
+     * @return
+     */
+    List<VirtualCluster> scan() {
+        final List<VirtualCluster> virtualClusters = new ArrayList<>();
+
+        String nextToken = null;
+        do {
+            final ListVirtualClustersResponse page = listPage(nextToken);
+            virtualClusters.addAll(page.virtualClusters());
+            nextToken = page.nextToken();
+        } while (nextToken != null);
+        return virtualClusters;
+    }
+
+    private ListVirtualClustersResponse listPage(String nextToken) {
+        try {
+            return EmrContainersInvoker.getInstance().invoke(proxyClient, metrics,
+                    Translator.translateToListRequest(nextToken, pageSize, null), proxyClient.client()::listVirtualClusters);
+        } catch (InternalServerException e) {
+            throw new CfnGeneralServiceException("listVirtualClusters", e);
+        } catch (EmrContainersException e) {
+            throw new CfnInvalidRequestException(e.getMessage(), e);
+        }
+    }
+
+    private VirtualCluster describe(String id) {
+        try {
+            final VirtualCluster virtualCluster = EmrContainersInvoker.getInstance().invoke(proxyClient, metrics,
+                    Translator.translateToReadRequest(id), proxyClient.client()::describeVirtualCluster).virtualCluster();
+            if (virtualCluster.state() == VirtualClusterState.TERMINATED) {
+                return null;
+            }
+            return virtualCluster;
+        } catch (ResourceNotFoundException e) {
+            return null;
+        } catch (InternalServerException e) {
+            throw new CfnGeneralServiceException("describeVirtualCluster", e);
+        } catch (EmrContainersException e) {
+            throw new CfnInvalidRequestException(e.getMessage(), e);
+        }
+    }
+}
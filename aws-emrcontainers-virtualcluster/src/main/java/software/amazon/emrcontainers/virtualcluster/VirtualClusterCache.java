@@ -0,0 +1,146 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of DescribeVirtualCluster results shared by the handlers of a warm container, so an update
+ * followed by a read of the same cluster does not describe it twice. Entries expire after a few seconds, the least
+ * recently used entry is evicted once the cache is full, and any mutation of a cluster must invalidate its entry.
+ * Keys include the account ID because one container serves requests for many accounts.
+ */
+public class VirtualClusterCache {
+    private static final VirtualClusterCache INSTANCE =
+            new VirtualClusterCache(Constants.DESCRIBE_CACHE_TTL_MILLIS, Constants.DESCRIBE_CACHE_MAX_ENTRIES);
+
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    VirtualClusterCache(final long ttlMillis, final int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    static VirtualClusterCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Build the cache key of a virtual cluster.
+     *
+     * @param awsAccountId
+     * @param virtualClusterId
+     * @return the key, or null when the cluster ID is unknown and the result must not be cached
+     */
+    static String key(final String awsAccountId, final String virtualClusterId) {
+        if (virtualClusterId == null) {
+            return null;
+        }
+        return awsAccountId + "/" + virtualClusterId;
+    }
+
+    /**
+     * Return the cached cluster, or load it and cache the result. Exceptions thrown by the loader are not cached.
+     *
+     * @param key
+     * @param loader
+     * @return
+     */
+    VirtualCluster getOrLoad(final String key, final Supplier<VirtualCluster> loader) {
+        final VirtualCluster cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final VirtualCluster loaded = loader.get();
+        put(key, loaded);
+        return loaded;
+    }
+
+    VirtualCluster get(final String key) {
+        Entry entry = null;
+        if (key != null) {
+            synchronized (entries) {
+                entry = entries.get(key);
+                if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+                    entries.remove(key);
+                    entry = null;
+                }
+            }
+        }
+
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.virtualCluster;
+    }
+
+    void put(final String key, final VirtualCluster virtualCluster) {
+        if (key == null || virtualCluster == null) {
+            return;
+        }
+        final Entry entry = new Entry(virtualCluster, System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    void invalidate(final String key) {
+        if (key == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    private static class Entry {
+        private final VirtualCluster virtualCluster;
+        private final long expiresAtMillis;
+
+        Entry(final VirtualCluster virtualCluster, final long expiresAtMillis) {
+            this.virtualCluster = virtualCluster;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        boolean isExpired(final long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.InternalServerException;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersResponse;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+/**
+ * ID-indexed snapshot of the active virtual clusters of one account and region, for tooling that lists or reads
+ * many clusters repeatedly. Within the creation staleness window requests are served from the snapshot without any
+ * call. After it, only clusters created since the newest one in the snapshot are listed, using createdAfter.
+ *
+ * Listing by creation time cannot see clusters that were deleted or changed state, and the service offers no filter
+ * on when a cluster last changed. Deletions and state changes therefore only show up when the snapshot is rebuilt
+ * from a full scan, which happens once the last full scan is older than the deletion staleness window: a deleted
+ * cluster can be listed and read for up to that long (15 minutes by default). Callers that must not act on a
+ * deleted cluster describe it first. Each refresh is persisted to a file, from which later invocations in the same
+ * container start.
+ *
+ * The handlers do not use the inventory: CloudFormation expects a read or list right after a create or delete to
+ * reflect it, which a snapshot cannot guarantee.
+ */
+@AllArgsConstructor
+@Builder
+public class VirtualClusterInventory {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ProxyClient<EmrContainersClient> proxyClient;
+    private String awsAccountId;
+    private String region;
+    @Builder.Default private long creationStalenessMillis = Constants.INVENTORY_CREATION_STALENESS_MILLIS;
+    @Builder.Default private long deletionStalenessMillis = Constants.INVENTORY_DELETION_STALENESS_MILLIS;
+    @Builder.Default private Path directory = Paths.get(Constants.INVENTORY_DIRECTORY);
+    @Builder.Default private int pageSize = Constants.LIST_PAGE_SIZE;
+    @Builder.Default private MetricsLogger metrics = MetricsLogger.NONE;
+    @Builder.Default private LongSupplier clock = System::currentTimeMillis;
+    private Snapshot snapshot;
+
+    /**
+     * Read one cluster from the snapshot.
+     *
+     * @param id
+     * @return the model, or null when the cluster is not active in the snapshot
+     */
+    public synchronized ResourceModel read(String id) {
+        return current().getVirtualClusters().get(id);
+    }
+
+    /**
+     * List the clusters in the snapshot, ordered by ID.
+     *
+     * @param containerProvider when not null, only clusters on this container provider are listed
+     * @return
+     */
+    public synchronized List<ResourceModel> list(ContainerProvider containerProvider) {
+        final List<ResourceModel> models = new ArrayList<>();
+        for (ResourceModel model : new TreeMap<>(current().getVirtualClusters()).values()) {
+            if (containerProvider == null || runsOn(model, containerProvider)) {
+                models.add(model);
+            }
+        }
+        return models;
+    }
+
+    /**
+     * Return the snapshot, refreshing it first when it is stale.
+     *
+     * @return
+     */
+    synchronized Snapshot current() {
+        final long now = clock.getAsLong();
+        if (snapshot == null) {
+            snapshot = load();
+        }
+
+        if (snapshot == null || now - snapshot.getFullRefreshedAtMillis() >= deletionStalenessMillis) {
+            final Snapshot rebuilt = new Snapshot();
+            scan(rebuilt, null);
+            rebuilt.setFullRefreshedAtMillis(now);
+            rebuilt.setRefreshedAtMillis(now);
+            snapshot = rebuilt;
+            persist(snapshot);
+        } else if (now - snapshot.getRefreshedAtMillis() >= creationStalenessMillis) {
+            // Clusters created within the same timestamp granularity may not have been listed yet; listing them
+            // again only overwrites their entries.
+            scan(snapshot, Instant.ofEpochMilli(Math.max(0L,
+                    snapshot.getNewestCreatedAtMillis() - Constants.INVENTORY_CREATED_AFTER_OVERLAP_MILLIS)));
+            snapshot.setRefreshedAtMillis(now);
+            persist(snapshot);
+        }
+        return snapshot;
+    }
+
+    Path file() {
+        return directory.resolve(String.format("emrcontainers-virtualcluster-inventory-%s-%s.json", awsAccountId, region));
+    }
+
+    private void scan(Snapshot target, Instant createdAfter) {
+        String nextToken = null;
+        do {
+            final ListVirtualClustersResponse page = listPage(nextToken, createdAfter);
+            for (VirtualCluster virtualCluster : page.virtualClusters()) {
+                target.getVirtualClusters().put(virtualCluster.id(), Translator.translate(virtualCluster));
+                if (virtualCluster.createdAt() != null) {
+                    target.setNewestCreatedAtMillis(Math.max(target.getNewestCreatedAtMillis(),
+                            virtualCluster.createdAt().toEpochMilli()));
+                }
+            }
+            nextToken = page.nextToken();
+        } while (nextToken != null);
+    }
+
+    private ListVirtualClustersResponse listPage(String nextToken, Instant createdAfter) {
+        final ListVirtualClustersRequest listVirtualClustersRequest =
+                Translator.translateToListRequest(nextToken, pageSize, null).toBuilder()
+                        .createdAfter(createdAfter)
+                        .build();
+        try {
+            return EmrContainersInvoker.getInstance().invoke(proxyClient, metrics, listVirtualClustersRequest,
+                    proxyClient.client()::listVirtualClusters);
+        } catch (InternalServerException e) {
+            throw new CfnGeneralServiceException("listVirtualClusters", e);
+        } catch (EmrContainersException e) {
+            throw new CfnInvalidRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Load the persisted snapshot. A missing or unreadable file means there is none.
+     *
+     * @return
+     */
+    private Snapshot load() {
+        final Path file = file();
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return MAPPER.readValue(file.toFile(), Snapshot.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Persist the snapshot by replacing the file, so concurrent readers never see a partial write. A failed write
+     * only costs the next container a full scan.
+     *
+     * @param snapshot
+     */
+    private void persist(Snapshot snapshot) {
+        Path temporaryFile = null;
+        try {
+            temporaryFile = Files.createTempFile(directory, "emrcontainers-virtualcluster-inventory", ".tmp");
+            MAPPER.writeValue(temporaryFile.toFile(), snapshot);
+            Files.move(temporaryFile, file(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (temporaryFile != null) {
+                temporaryFile.toFile().delete();
+            }
+        }
+    }
+
+    private static boolean runsOn(ResourceModel model, ContainerProvider containerProvider) {
+        return model.getContainerProvider() != null
+                && Objects.equals(model.getContainerProvider().getId(), containerProvider.getId())
+                && Objects.equals(model.getContainerProvider().getType(), containerProvider.getType());
+    }
+
+    @Data
+    @NoArgsConstructor
+    static class Snapshot {
+        private long refreshedAtMillis;
+        private long fullRefreshedAtMillis;
+        private long newestCreatedAtMillis;
+        private Map<String, ResourceModel> virtualClusters = new HashMap<>();
+    }
+}
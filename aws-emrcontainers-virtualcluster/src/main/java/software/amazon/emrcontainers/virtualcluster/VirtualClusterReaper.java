@@ -0,0 +1,316 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersResponse;
+import software.amazon.awssdk.services.emrcontainers.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Deletes ARRESTED virtual clusters, and running clusters carrying the given orphan tags, and tracks them to
+ * TERMINATED. Deletes are issued in parallel up to the concurrency cap. Instead of one Describe loop per cluster, a
+ * single poller lists the clusters that are still active on the container providers concerned, once per poll
+ * interval, and considers every pending cluster missing from that listing terminated.
+ */
+@AllArgsConstructor
+@Builder
+public class VirtualClusterReaper {
+    private static final List<VirtualClusterState> PRE_DELETE_STATES = Collections.unmodifiableList(Arrays.asList(
+            VirtualClusterState.RUNNING,
+            VirtualClusterState.ARRESTED));
+
+    private ProxyClient<EmrContainersClient> proxyClient;
+    private String awsAccountId;
+    @Builder.Default private Map<String, String> orphanTags = Collections.emptyMap();
+    @Builder.Default private int concurrency = Constants.REAPER_CONCURRENCY;
+    @Builder.Default private int pageSize = Constants.LIST_PAGE_SIZE;
+    @Builder.Default private long pollIntervalMillis = Constants.REAPER_POLL_INTERVAL_MILLIS;
+    @Builder.Default private long timeoutMillis = Constants.STABILIZATION_TIMEOUT_MILLIS;
+    @Builder.Default private MetricsLogger metrics = MetricsLogger.NONE;
+
+    enum Outcome { TERMINATED, DELETE_FAILED, TIMED_OUT }
+
+    /**
+     * Outcome for one reaped cluster.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final String virtualClusterId;
+        private final String name;
+        private final String initialState;
+        private final Outcome outcome;
+        private final String message;
+
+        @Override
+        public String toString() {
+            return String.format("%s (%s, %s): %s%s", virtualClusterId, name, initialState, outcome,
+                    message == null ? "" : " " + message);
+        }
+    }
+
+    /**
+     * Outcome of a reaper run.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Report {
+        private final List<Result> results;
+        private final long elapsedMillis;
+        private final int pollCalls;
+
+        public long count(Outcome outcome) {
+            return results.stream().filter(result -> result.getOutcome() == outcome).count();
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder report = new StringBuilder();
+            for (Result result : results) {
+                report.append(result).append('\n');
+            }
+            return report.append(String.format("%d terminated, %d failed, %d timed out in %d ms with %d List calls",
+                    count(Outcome.TERMINATED), count(Outcome.DELETE_FAILED), count(Outcome.TIMED_OUT),
+                    elapsedMillis, pollCalls)).toString();
+        }
+    }
+
+    /**
+     * Find, delete and track the clusters to reap.
+     *
+     * @return
+     * @throws InterruptedException
+     */
+    public Report reap() throws InterruptedException {
+        final long startMillis = System.currentTimeMillis();
+        final Map<String, Result> results = new LinkedHashMap<>();
+        final Map<String, VirtualCluster> pending = deleteAll(findCandidates(), results);
+        final int pollCalls = awaitTermination(pending, results, startMillis + timeoutMillis);
+        return new Report(new ArrayList<>(results.values()), System.currentTimeMillis() - startMillis, pollCalls);
+    }
+
+    /**
+     * List the ARRESTED clusters, and the running ones when orphan tags are given.
+     *
+     * @return
+     */
+    List<VirtualCluster> findCandidates() {
+        final List<VirtualCluster> candidates = new ArrayList<>();
+        final ListVirtualClustersRequest.Builder listVirtualClustersRequest = ListVirtualClustersRequest.builder()
+                .states(orphanTags.isEmpty()
+                        ? Collections.singletonList(VirtualClusterState.ARRESTED)
+                        : PRE_DELETE_STATES)
+                .maxResults(pageSize);
+        String nextToken;
+        do {
+            final ListVirtualClustersResponse page = listPage(listVirtualClustersRequest.build());
+            for (VirtualCluster virtualCluster : page.virtualClusters()) {
+                if (virtualCluster.state() == VirtualClusterState.ARRESTED || hasOrphanTags(virtualCluster)) {
+                    candidates.add(virtualCluster);
+                }
+            }
+            nextToken = page.nextToken();
+            listVirtualClustersRequest.nextToken(nextToken);
+        } while (nextToken != null);
+        return candidates;
+    }
+
+    /**
+     * Delete the candidates in parallel. Clusters that are already gone are recorded as terminated, failed deletes
+     * as failed.
+     *
+     * @param candidates
+     * @param results
+     * @return the clusters whose deletion was accepted, by ID
+     * @throws InterruptedException
+     */
+    private Map<String, VirtualCluster> deleteAll(List<VirtualCluster> candidates, Map<String, Result> results)
+            throws InterruptedException {
+        final Map<String, VirtualCluster> pending = new LinkedHashMap<>();
+        if (candidates.isEmpty()) {
+            return pending;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, candidates.size()));
+        try {
+            final List<Future<Result>> futures = new ArrayList<>(candidates.size());
+            for (VirtualCluster virtualCluster : candidates) {
+                futures.add(executor.submit(() -> delete(virtualCluster)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                final VirtualCluster virtualCluster = candidates.get(i);
+                Result result;
+                try {
+                    result = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    result = result(virtualCluster, Outcome.DELETE_FAILED, String.valueOf(e.getCause()));
+                }
+                if (result == null) {
+                    pending.put(virtualCluster.id(), virtualCluster);
+                }
+                // Pending clusters get a placeholder so the report keeps the order in which clusters were found.
+                results.put(virtualCluster.id(), result);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return pending;
+    }
+
+    /**
+     * Delete one cluster.
+     *
+     * @param virtualCluster
+     * @return null when the deletion was accepted and must be tracked, otherwise the final result
+     */
+    private Result delete(VirtualCluster virtualCluster) {
+        try {
+            EmrContainersInvoker.getInstance().invoke(proxyClient, metrics,
+                    Translator.translateToDeleteRequest(virtualCluster.id()), proxyClient.client()::deleteVirtualCluster);
+            return null;
+        } catch (ResourceNotFoundException e) {
+            return result(virtualCluster, Outcome.TERMINATED, null);
+        } catch (EmrContainersException e) {
+            if (e.getMessage().contains(Constants.VIRTUAL_CLUSTER_TERMINATED_MESSAGE)) {
+                return result(virtualCluster, Outcome.TERMINATED, null);
+            }
+            return result(virtualCluster, Outcome.DELETE_FAILED, e.getMessage());
+        } catch (RuntimeException e) {
+            return result(virtualCluster, Outcome.DELETE_FAILED, e.getMessage());
+        } finally {
+            VirtualClusterCache.getInstance().invalidate(VirtualClusterCache.key(awsAccountId, virtualCluster.id()));
+        }
+    }
+
+    /**
+     * Poll until every pending cluster has left the active states or the deadline passes.
+     *
+     * @param pending
+     * @param results
+     * @param deadlineMillis
+     * @return number of List calls made
+     * @throws InterruptedException
+     */
+    private int awaitTermination(Map<String, VirtualCluster> pending, Map<String, Result> results, long deadlineMillis)
+            throws InterruptedException {
+        int pollCalls = 0;
+        while (!pending.isEmpty()) {
+            if (System.currentTimeMillis() + pollIntervalMillis > deadlineMillis) {
+                for (VirtualCluster virtualCluster : pending.values()) {
+                    results.put(virtualCluster.id(), result(virtualCluster, Outcome.TIMED_OUT, null));
+                }
+                break;
+            }
+            Thread.sleep(pollIntervalMillis);
+
+            final Set<String> activeIds = new HashSet<>();
+            for (Map.Entry<Map.Entry<String, String>, Set<String>> provider : pendingByProvider(pending).entrySet()) {
+                try {
+                    pollCalls += listActive(provider.getKey(), provider.getValue(), activeIds);
+                } catch (RuntimeException e) {
+                    // Keep every cluster of this provider pending and try again on the next poll.
+                    activeIds.addAll(provider.getValue());
+                }
+            }
+
+            final Iterator<VirtualCluster> iterator = pending.values().iterator();
+            while (iterator.hasNext()) {
+                final VirtualCluster virtualCluster = iterator.next();
+                if (!activeIds.contains(virtualCluster.id())) {
+                    results.put(virtualCluster.id(), result(virtualCluster, Outcome.TERMINATED, null));
+                    iterator.remove();
+                }
+            }
+        }
+        return pollCalls;
+    }
+
+    /**
+     * Scan the active clusters of a container provider, stopping early once every pending ID has been seen.
+     *
+     * @param provider container provider ID and type
+     * @param pendingIds
+     * @param activeIds receives the pending IDs that are still active
+     * @return number of List calls made
+     */
+    private int listActive(Map.Entry<String, String> provider, Set<String> pendingIds, Set<String> activeIds) {
+        final Set<String> unseenIds = new HashSet<>(pendingIds);
+        final ListVirtualClustersRequest.Builder listVirtualClustersRequest = ListVirtualClustersRequest.builder()
+                .containerProviderId(provider.getKey())
+                .containerProviderType(provider.getValue())
+                .states(Constants.ACTIVE_VIRTUAL_CLUSTER_STATES)
+                .maxResults(pageSize);
+
+        int calls = 0;
+        String nextToken;
+        do {
+            final ListVirtualClustersResponse page = listPage(listVirtualClustersRequest.build());
+            calls++;
+            for (VirtualCluster virtualCluster : page.virtualClusters()) {
+                if (unseenIds.remove(virtualCluster.id())) {
+                    activeIds.add(virtualCluster.id());
+                }
+            }
+            nextToken = page.nextToken();
+            listVirtualClustersRequest.nextToken(nextToken);
+        } while (nextToken != null && !unseenIds.isEmpty());
+        return calls;
+    }
+
+    private ListVirtualClustersResponse listPage(ListVirtualClustersRequest listVirtualClustersRequest) {
+        return EmrContainersInvoker.getInstance().invoke(proxyClient, metrics, listVirtualClustersRequest,
+                proxyClient.client()::listVirtualClusters);
+    }
+
+    private static Map<Map.Entry<String, String>, Set<String>> pendingByProvider(Map<String, VirtualCluster> pending) {
+        final Map<Map.Entry<String, String>, Set<String>> pendingByProvider = new HashMap<>();
+        for (VirtualCluster virtualCluster : pending.values()) {
+            final software.amazon.awssdk.services.emrcontainers.model.ContainerProvider containerProvider =
+                    virtualCluster.containerProvider();
+            final Map.Entry<String, String> provider = containerProvider == null
+                    ? new AbstractMap.SimpleImmutableEntry<>(null, null)
+                    : new AbstractMap.SimpleImmutableEntry<>(containerProvider.id(), containerProvider.typeAsString());
+            pendingByProvider.computeIfAbsent(provider, key -> new HashSet<>()).add(virtualCluster.id());
+        }
+        return pendingByProvider;
+    }
+
+    private boolean hasOrphanTags(VirtualCluster virtualCluster) {
+        if (orphanTags.isEmpty() || !virtualCluster.hasTags()) {
+            return false;
+        }
+        for (Map.Entry<String, String> tag : orphanTags.entrySet()) {
+            if (!Objects.equals(tag.getValue(), virtualCluster.tags().get(tag.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Result result(VirtualCluster virtualCluster, Outcome outcome, String message) {
+        return new Result(virtualCluster.id(), virtualCluster.name(), virtualCluster.stateAsString(), outcome, message);
+    }
+}
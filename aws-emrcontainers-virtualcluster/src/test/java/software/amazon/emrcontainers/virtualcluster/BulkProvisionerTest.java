@@ -0,0 +1,112 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkProvisionerTest {
+
+    private FakeEmrContainers service;
+    private BulkProvisioner provisioner;
+
+    @BeforeEach
+    public void setup() {
+        service = FakeEmrContainers.builder().latencyMillis(1L).build();
+        ClientBuilder.setClient(service);
+        provisioner = BulkProvisioner.builder()
+                .proxy(new AmazonWebServicesClientProxy(new LoggerProxy(),
+                        new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                        () -> TimeUnit.MINUTES.toMillis(15)))
+                .region("us-east-1")
+                .awsAccountId("123456789012")
+                .concurrency(4)
+                .createHandler(new CreateHandler(1000L, 5L))
+                .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ClientBuilder.reset();
+        VirtualClusterCache.getInstance().clear();
+    }
+
+    @Test
+    public void provision_AllEntriesRunning() throws InterruptedException {
+        final List<BulkProvisioner.ManifestEntry> manifest = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            manifest.add(entry("tenant-" + i, "namespace-" + i));
+        }
+
+        final BulkProvisioner.Report report = provisioner.provision(manifest);
+
+        assertThat(report.getSucceeded()).isEqualTo(10L);
+        assertThat(report.getResults()).extracting(result -> result.getEntry().getName())
+                .containsExactly(manifest.stream().map(BulkProvisioner.ManifestEntry::getName).toArray(String[]::new));
+        for (BulkProvisioner.ItemResult result : report.getResults()) {
+            final VirtualCluster virtualCluster = service.describeVirtualCluster(
+                    DescribeVirtualClusterRequest.builder().id(result.getModel().getId()).build()).virtualCluster();
+            assertThat(virtualCluster.state()).isEqualTo(VirtualClusterState.RUNNING);
+            assertThat(virtualCluster.tags()).containsEntry("tenant", result.getEntry().getName());
+        }
+    }
+
+    @Test
+    public void provision_SameManifestTwice_NoDuplicates() throws InterruptedException {
+        final List<BulkProvisioner.ManifestEntry> manifest = Arrays.asList(entry("tenant-1", "namespace-1"));
+
+        final String id = provisioner.provision(manifest).getResults().get(0).getModel().getId();
+
+        assertThat(provisioner.provision(manifest).getResults().get(0).getModel().getId()).isEqualTo(id);
+    }
+
+    @Test
+    public void provision_NamespaceTaken_ReportedPerItem() throws InterruptedException {
+        final BulkProvisioner.Report report = provisioner.provision(Arrays.asList(
+                entry("tenant-1", "namespace"),
+                entry("tenant-2", "namespace")));
+
+        assertThat(report.getSucceeded()).isEqualTo(1L);
+        assertThat(report.getFailed()).isEqualTo(1L);
+        assertThat(report.getResults()).filteredOn(result -> !result.isSucceeded())
+                .extracting(BulkProvisioner.ItemResult::getErrorCode)
+                .containsExactly(HandlerErrorCode.AlreadyExists);
+    }
+
+    @Test
+    public void readManifest_JsonArray(@TempDir Path directory) throws IOException {
+        final Path manifest = directory.resolve("manifest.json");
+        Files.write(manifest, ("[{\"name\":\"tenant-1\",\"eksClusterId\":\"eks-cluster\",\"namespace\":\"namespace-1\","
+                + "\"tags\":{\"tenant\":\"tenant-1\"}}]").getBytes(StandardCharsets.UTF_8));
+
+        assertThat(BulkProvisioner.readManifest(manifest)).containsExactly(entry("tenant-1", "namespace-1"));
+    }
+
+    private static BulkProvisioner.ManifestEntry entry(final String name, final String namespace) {
+        return BulkProvisioner.ManifestEntry.builder()
+                .name(name)
+                .eksClusterId("eks-cluster")
+                .namespace(namespace)
+                .tags(ImmutableMap.of("tenant", name))
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ClientBuilderTest {
+
+    @AfterEach
+    public void tearDown() {
+        ClientBuilder.reset();
+    }
+
+    @Test
+    public void getClient_SameRegion_ReusesClient() {
+        final EmrContainersClient client = ClientBuilder.getClient("us-west-2");
+
+        assertThat(ClientBuilder.getClient("us-west-2")).isSameAs(client);
+        assertThat(ClientBuilder.getClient("us-east-1")).isNotSameAs(client);
+        assertThat(ClientBuilder.getClient("us-west-2", "http://localhost:8080")).isNotSameAs(client);
+    }
+
+    @Test
+    public void getClient_InjectedClient_ReturnedForEveryRegion() {
+        final EmrContainersClient stubClient = mock(EmrContainersClient.class);
+        ClientBuilder.setClient(stubClient);
+
+        assertThat(ClientBuilder.getClient()).isSameAs(stubClient);
+        assertThat(ClientBuilder.getClient("us-west-2")).isSameAs(stubClient);
+    }
+
+    @Test
+    public void reset_RebuildsClient() {
+        final EmrContainersClient client = ClientBuilder.getClient("us-west-2");
+        ClientBuilder.reset();
+
+        assertThat(ClientBuilder.getClient("us-west-2")).isNotSameAs(client);
+    }
+}
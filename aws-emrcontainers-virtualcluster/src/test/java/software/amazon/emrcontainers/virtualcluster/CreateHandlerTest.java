@@ -1,30 +1,46 @@
 package software.amazon.emrcontainers.virtualcluster;
 
-import com.amazonaws.AmazonWebServiceRequest;
-import com.amazonaws.services.emrcontainers.model.CreateVirtualClusterRequest;
-import com.amazonaws.services.emrcontainers.model.CreateVirtualClusterResult;
-import com.amazonaws.services.emrcontainers.model.DescribeVirtualClusterResult;
-import org.mockito.ArgumentMatchers;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.CreateVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.CreateVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersResponse;
+import software.amazon.awssdk.services.emrcontainers.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrcontainers.model.ValidationException;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+import org.mockito.ArgumentCaptor;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.*;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest {
 
-    @Mock
     private AmazonWebServicesClientProxy proxy;
 
+    @Mock
+    private EmrContainersClient sdkClient;
+
     @Mock
     private Logger logger;
 
@@ -32,8 +48,12 @@ public class CreateHandlerTest {
 
     @BeforeEach
     public void setup() {
-        proxy = mock(AmazonWebServicesClientProxy.class);
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                () -> TimeUnit.MINUTES.toMillis(15));
         logger = mock(Logger.class);
+        sdkClient = mock(EmrContainersClient.class);
+        ClientBuilder.setClient(sdkClient);
         model = ResourceModel.builder()
             .name("virtualClusterName")
             .containerProvider(ContainerProvider.builder()
@@ -48,6 +68,12 @@ public class CreateHandlerTest {
             .build();
     }
 
+    @AfterEach
+    public void tearDown() {
+        ClientBuilder.reset();
+        VirtualClusterCache.getInstance().clear();
+    }
+
     @Test
     public void handleRequest_success() {
         final CreateHandler handler = new CreateHandler();
@@ -56,13 +82,15 @@ public class CreateHandlerTest {
                 .desiredResourceState(model)
                 .build();
 
-        CreateVirtualClusterResult createVirtualClusterResult = new CreateVirtualClusterResult();
-        createVirtualClusterResult.setId("virtualClusterId");
-        createVirtualClusterResult.setName("name");
-        createVirtualClusterResult.setArn("arn");
-        doReturn(createVirtualClusterResult)
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(CreateVirtualClusterRequest.class), ArgumentMatchers.<Function<CreateVirtualClusterRequest, CreateVirtualClusterResult>>any());
+        CreateVirtualClusterResponse createVirtualClusterResponse = CreateVirtualClusterResponse.builder()
+                .id("virtualClusterId")
+                .name("name")
+                .arn("arn")
+                .build();
+        doReturn(createVirtualClusterResponse)
+                .when(sdkClient)
+                .createVirtualCluster(any(CreateVirtualClusterRequest.class));
+        mockDescribeVirtualCluster(VirtualClusterState.RUNNING);
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -75,9 +103,9 @@ public class CreateHandlerTest {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        assertThat(response.getResourceModel().getId()).isEqualTo(createVirtualClusterResult.getId());
-        assertThat(response.getResourceModel().getName()).isEqualTo(createVirtualClusterResult.getName());
-        assertThat(response.getResourceModel().getArn()).isEqualTo(createVirtualClusterResult.getArn());
+        assertThat(response.getResourceModel().getId()).isEqualTo(createVirtualClusterResponse.id());
+        assertThat(response.getResourceModel().getName()).isEqualTo(createVirtualClusterResponse.name());
+        assertThat(response.getResourceModel().getArn()).isEqualTo(createVirtualClusterResponse.arn());
     }
 
     @Test
@@ -95,4 +123,196 @@ public class CreateHandlerTest {
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
         assertThat(response.getMessage()).startsWith("Arn is a ReadOnly");
     }
+
+    @Test
+    public void handleRequest_Arrested_CreationFailed() {
+        final CreateHandler handler = new CreateHandler(0L, 0L);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        CreateVirtualClusterResponse createVirtualClusterResponse = CreateVirtualClusterResponse.builder()
+                .id("virtualClusterId")
+                .build();
+        doReturn(createVirtualClusterResponse)
+                .when(sdkClient)
+                .createVirtualCluster(any(CreateVirtualClusterRequest.class));
+        mockDescribeVirtualCluster(VirtualClusterState.ARRESTED);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+        assertThat(response.getMessage()).isEqualTo("Cluster virtualClusterId is in arrested state and failed to stabilize");
+    }
+
+    @Test
+    public void handleRequest_NotYetVisible_CreationStabilizing() {
+        final CreateHandler handler = new CreateHandler(0L, 0L);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        CreateVirtualClusterResponse createVirtualClusterResponse = CreateVirtualClusterResponse.builder()
+                .id("virtualClusterId")
+                .build();
+        doReturn(createVirtualClusterResponse)
+                .when(sdkClient)
+                .createVirtualCluster(any(CreateVirtualClusterRequest.class));
+        doThrow(ResourceNotFoundException.class)
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getIsCreateInProgress()).isTrue();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(Constants.CALLBACK_DELAY_SECONDS);
+        assertThat(response.getResourceModel().getId()).isEqualTo("virtualClusterId");
+    }
+
+    @Test
+    public void handleRequest_CreateInProgress_Stabilized() {
+        final CreateHandler handler = new CreateHandler(0L, 0L);
+
+        model.setId("virtualClusterId");
+        model.setArn("arn");
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        mockDescribeVirtualCluster(VirtualClusterState.RUNNING);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, request, CallbackContext.builder().isCreateInProgress(true).build(), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(response.getResourceModel().getId()).isEqualTo("virtualClusterId");
+        verify(sdkClient, never())
+                .createVirtualCluster(any(CreateVirtualClusterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RecordedVirtualClusterId_DescribedWithoutCreate() {
+        final CreateHandler handler = new CreateHandler(0L, 0L);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        mockDescribeVirtualCluster(VirtualClusterState.RUNNING);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, request, CallbackContext.builder().virtualClusterId("virtualClusterId").build(), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo("virtualClusterId");
+        verify(sdkClient, never())
+                .createVirtualCluster(any(CreateVirtualClusterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_StabilizationThrottled_VirtualClusterIdRecorded() {
+        final CreateHandler handler = new CreateHandler(0L, 0L);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        CreateVirtualClusterResponse createVirtualClusterResponse = CreateVirtualClusterResponse.builder()
+                .id("virtualClusterId")
+                .build();
+        doReturn(createVirtualClusterResponse)
+                .when(sdkClient)
+                .createVirtualCluster(any(CreateVirtualClusterRequest.class));
+        doThrow(new CfnThrottlingException("DescribeVirtualCluster", new RuntimeException()))
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getVirtualClusterId()).isEqualTo("virtualClusterId");
+    }
+
+    @Test
+    public void handleRequest_CallbackStabilizationThrottled_PollsAgain() {
+        final CreateHandler handler = new CreateHandler(0L, 0L);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        final CallbackContext callbackContext = CallbackContext.builder()
+                .isCreateInProgress(true)
+                .virtualClusterId("virtualClusterId")
+                .stabilizationAttempts(1)
+                .build();
+
+        doThrow(new CfnThrottlingException("DescribeVirtualCluster", new RuntimeException()))
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, callbackContext, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getVirtualClusterId()).isEqualTo("virtualClusterId");
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(2);
+        verify(sdkClient, never())
+                .createVirtualCluster(any(CreateVirtualClusterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NamespaceTaken_AlreadyExists() {
+        final CreateHandler handler = new CreateHandler(0L, 0L);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        doThrow(ValidationException.builder().message("A virtual cluster already exists in the given namespace").build())
+                .when(sdkClient)
+                .createVirtualCluster(any(CreateVirtualClusterRequest.class));
+        doReturn(ListVirtualClustersResponse.builder()
+                .virtualClusters(
+                        virtualClusterInNamespace("otherId", "otherNamespace"),
+                        virtualClusterInNamespace("existingId", "namespace"))
+                .build())
+                .when(sdkClient)
+                .listVirtualClusters(any(ListVirtualClustersRequest.class));
+
+        final CfnAlreadyExistsException exception = assertThrows(CfnAlreadyExistsException.class, () ->
+                handler.handleRequest(proxy, request, null, logger));
+
+        assertThat(exception.getMessage()).contains("existingId");
+        final ArgumentCaptor<ListVirtualClustersRequest> requestCaptor = ArgumentCaptor.forClass(ListVirtualClustersRequest.class);
+        verify(sdkClient).listVirtualClusters(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().containerProviderId()).isEqualTo("eksClusterId");
+    }
+
+    private VirtualCluster virtualClusterInNamespace(String id, String namespace) {
+        return VirtualCluster.builder()
+                .id(id)
+                .containerProvider(Translator.translate(ContainerProvider.builder()
+                        .id("eksClusterId")
+                        .type("eks")
+                        .info(ContainerInfo.builder()
+                                .eksInfo(EksInfo.builder().namespace(namespace).build())
+                                .build())
+                        .build()))
+                .build();
+    }
+
+    private void mockDescribeVirtualCluster(VirtualClusterState virtualClusterState) {
+        VirtualCluster virtualCluster = VirtualCluster.builder()
+                .state(virtualClusterState)
+                .build();
+        doReturn(DescribeVirtualClusterResponse.builder().virtualCluster(virtualCluster).build())
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+    }
 }
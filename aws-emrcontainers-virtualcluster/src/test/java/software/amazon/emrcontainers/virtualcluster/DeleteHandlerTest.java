@@ -1,16 +1,23 @@
 package software.amazon.emrcontainers.virtualcluster;
 
-import com.amazonaws.services.emrcontainers.model.*;
-import org.mockito.ArgumentMatchers;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.DeleteVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DeleteVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrcontainers.model.ValidationException;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.*;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,9 +27,11 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class DeleteHandlerTest {
 
-    @Mock
     private AmazonWebServicesClientProxy proxy;
 
+    @Mock
+    private EmrContainersClient sdkClient;
+
     @Mock
     private Logger logger;
 
@@ -33,9 +42,13 @@ public class DeleteHandlerTest {
 
     @BeforeEach
     public void setup() {
-        proxy = mock(AmazonWebServicesClientProxy.class);
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                () -> TimeUnit.MINUTES.toMillis(15));
         logger = mock(Logger.class);
-        handler = new DeleteHandler();
+        sdkClient = mock(EmrContainersClient.class);
+        ClientBuilder.setClient(sdkClient);
+        handler = new DeleteHandler(0L, 0L);
         model = ResourceModel.builder()
                 .id(virtualClusterId)
                 .build();
@@ -44,12 +57,18 @@ public class DeleteHandlerTest {
                 .build();
     }
 
+    @AfterEach
+    public void tearDown() {
+        ClientBuilder.reset();
+        VirtualClusterCache.getInstance().clear();
+    }
+
     @Test
     public void handleRequest_deleteInitiated() {
-        DeleteVirtualClusterResult deleteVirtualClusterResult = new DeleteVirtualClusterResult();
-        doReturn(deleteVirtualClusterResult)
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DeleteVirtualClusterRequest.class), ArgumentMatchers.<Function<DeleteVirtualClusterRequest, DeleteVirtualClusterResult>>any());
+        DeleteVirtualClusterResponse deleteVirtualClusterResponse = DeleteVirtualClusterResponse.builder().build();
+        doReturn(deleteVirtualClusterResponse)
+                .when(sdkClient)
+                .deleteVirtualCluster(any(DeleteVirtualClusterRequest.class));
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -58,6 +77,8 @@ public class DeleteHandlerTest {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackContext().getIsDeleteInProgress()).isTrue();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(Constants.CALLBACK_DELAY_SECONDS);
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackContext().getStabilizationStartTime()).isNotNull();
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
@@ -65,16 +86,49 @@ public class DeleteHandlerTest {
         assertThat(response.getResourceModel().getId()).isEqualTo(virtualClusterId);
     }
 
+    @Test
+    public void handleRequest_TerminatedWithinInProcessWindow_Success() {
+        final DeleteHandler inProcessHandler = new DeleteHandler(60000L, 0L);
+        doReturn(DeleteVirtualClusterResponse.builder().build())
+                .when(sdkClient)
+                .deleteVirtualCluster(any(DeleteVirtualClusterRequest.class));
+
+        VirtualCluster terminatingCluster = VirtualCluster.builder()
+                .state("TERMINATING")
+                .build();
+        VirtualCluster terminatedCluster = VirtualCluster.builder()
+                .state("TERMINATED")
+                .build();
+        doReturn(DescribeVirtualClusterResponse.builder().virtualCluster(terminatingCluster).build(),
+                DescribeVirtualClusterResponse.builder().virtualCluster(terminatedCluster).build())
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = inProcessHandler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getErrorCode()).isNull();
+
+        verify(sdkClient, times(2))
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+    }
+
     @Test
     public void handleRequest_TerminationStabilizing() {
-        VirtualCluster virtualCluster = new VirtualCluster();
-        virtualCluster.setState("TERMINATING");
+        VirtualCluster virtualCluster = VirtualCluster.builder()
+                .state("TERMINATING")
+                .build();
 
-        DescribeVirtualClusterResult describeVirtualClusterResult = new DescribeVirtualClusterResult();
-        describeVirtualClusterResult.setVirtualCluster(virtualCluster);
-        doReturn(describeVirtualClusterResult)
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
+        DescribeVirtualClusterResponse describeVirtualClusterResponse = DescribeVirtualClusterResponse.builder()
+                .virtualCluster(virtualCluster)
+                .build();
+        doReturn(describeVirtualClusterResponse)
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
                 proxy, request, CallbackContext.builder().isDeleteInProgress(true).build(), logger);
@@ -83,6 +137,8 @@ public class DeleteHandlerTest {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         assertThat(response.getCallbackContext().getIsDeleteInProgress()).isTrue();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(Constants.CALLBACK_DELAY_SECONDS);
+        assertThat(response.getCallbackContext().getStabilizationAttempts()).isEqualTo(1);
+        assertThat(response.getCallbackContext().getStabilizationStartTime()).isNotNull();
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
@@ -90,16 +146,45 @@ public class DeleteHandlerTest {
         assertThat(response.getResourceModel().getId()).isEqualTo(virtualClusterId);
     }
 
+    @Test
+    public void handleRequest_TerminationStabilizing_StabilizationTimedOut() {
+        VirtualCluster virtualCluster = VirtualCluster.builder()
+                .state("TERMINATING")
+                .build();
+
+        DescribeVirtualClusterResponse describeVirtualClusterResponse = DescribeVirtualClusterResponse.builder()
+                .virtualCluster(virtualCluster)
+                .build();
+        doReturn(describeVirtualClusterResponse)
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+
+        CallbackContext callbackContext = CallbackContext.builder()
+                .isDeleteInProgress(true)
+                .stabilizationAttempts(30)
+                .stabilizationStartTime(System.currentTimeMillis() - Constants.STABILIZATION_TIMEOUT_MILLIS)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, request, callbackContext, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+        assertThat(response.getMessage()).startsWith("Cluster virtualClusterId failed to stabilize within");
+    }
+
     @Test
     public void handleRequest_TerminationStabilized() {
-        VirtualCluster virtualCluster = new VirtualCluster();
-        virtualCluster.setState("TERMINATED");
+        VirtualCluster virtualCluster = VirtualCluster.builder()
+                .state("TERMINATED")
+                .build();
 
-        DescribeVirtualClusterResult describeVirtualClusterResult = new DescribeVirtualClusterResult();
-        describeVirtualClusterResult.setVirtualCluster(virtualCluster);
-        doReturn(describeVirtualClusterResult)
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
+        DescribeVirtualClusterResponse describeVirtualClusterResponse = DescribeVirtualClusterResponse.builder()
+                .virtualCluster(virtualCluster)
+                .build();
+        doReturn(describeVirtualClusterResponse)
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
                 proxy, request, CallbackContext.builder().isDeleteInProgress(true).build(), logger);
@@ -118,8 +203,8 @@ public class DeleteHandlerTest {
     @Test
     public void handleRequest_ResourceNotFound_TerminationSuceeded() {
         doThrow(ResourceNotFoundException.class)
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DeleteVirtualClusterRequest.class), ArgumentMatchers.<Function<DeleteVirtualClusterRequest, DeleteVirtualClusterResult>>any());
+                .when(sdkClient)
+                .deleteVirtualCluster(any(DeleteVirtualClusterRequest.class));
 
         assertThrows(CfnNotFoundException.class, () -> {
             handler.handleRequest(proxy, request, null, logger);
@@ -128,10 +213,10 @@ public class DeleteHandlerTest {
 
     @Test
     public void handleRequest_ClusterTerminated_ThrowsCfnNotFoundException() {
-        ValidationException validationException = new ValidationException("vcid " + Constants.VIRTUAL_CLUSTER_TERMINATED_MESSAGE);
+        ValidationException validationException = ValidationException.builder().message("vcid " + Constants.VIRTUAL_CLUSTER_TERMINATED_MESSAGE).build();
         doThrow(validationException)
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DeleteVirtualClusterRequest.class), ArgumentMatchers.<Function<DeleteVirtualClusterRequest, DeleteVirtualClusterResult>>any());
+                .when(sdkClient)
+                .deleteVirtualCluster(any(DeleteVirtualClusterRequest.class));
 
         assertThrows(CfnNotFoundException.class, () -> {
             handler.handleRequest(proxy, request, null, logger);
@@ -140,14 +225,16 @@ public class DeleteHandlerTest {
 
     @Test
     public void handleRequest_Arrested_TerminationFailed() {
-        VirtualCluster virtualCluster = new VirtualCluster();
-        virtualCluster.setState("ARRESTED");
-
-        DescribeVirtualClusterResult describeVirtualClusterResult = new DescribeVirtualClusterResult();
-        describeVirtualClusterResult.setVirtualCluster(virtualCluster);
-        doReturn(describeVirtualClusterResult)
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
+        VirtualCluster virtualCluster = VirtualCluster.builder()
+                .state("ARRESTED")
+                .build();
+
+        DescribeVirtualClusterResponse describeVirtualClusterResponse = DescribeVirtualClusterResponse.builder()
+                .virtualCluster(virtualCluster)
+                .build();
+        doReturn(describeVirtualClusterResponse)
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         CallbackContext callbackContext = CallbackContext.builder().isDeleteInProgress(true).build();
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
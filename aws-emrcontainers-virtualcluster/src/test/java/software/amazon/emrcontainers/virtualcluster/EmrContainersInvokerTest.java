@@ -0,0 +1,139 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.InternalServerException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class EmrContainersInvokerTest {
+
+    private ProxyClient<EmrContainersClient> proxyClient;
+    private EmrContainersClient emrContainersClient;
+    private MetricsLogger metrics;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        proxyClient = mock(ProxyClient.class);
+        emrContainersClient = mock(EmrContainersClient.class);
+        metrics = mock(MetricsLogger.class);
+    }
+
+    @Test
+    public void invoke_ThrottledThenSucceeds_Retries() {
+        final DescribeVirtualClusterResponse result = DescribeVirtualClusterResponse.builder().build();
+        doThrow(throttlingException())
+                .doReturn(result)
+                .when(proxyClient)
+                .injectCredentialsAndInvokeV2(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResponse>>any());
+
+        final DescribeVirtualClusterResponse response = invoker(new RetryBudget(10, 0.1))
+                .invoke(proxyClient, metrics, DescribeVirtualClusterRequest.builder().build(), emrContainersClient::describeVirtualCluster);
+
+        assertThat(response).isSameAs(result);
+        verify(metrics).recordCall(eq("DescribeVirtualCluster"), anyLong(), eq(1), eq(1), eq(false));
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResponse>>any());
+    }
+
+    @Test
+    public void invoke_AlwaysThrottled_ThrowsAfterMaxAttempts() {
+        doThrow(throttlingException())
+                .when(proxyClient)
+                .injectCredentialsAndInvokeV2(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResponse>>any());
+
+        final EmrContainersInvoker invoker = invoker(new RetryBudget(10, 0.1));
+        assertThrows(CfnThrottlingException.class, () ->
+                invoker.invoke(proxyClient, metrics, DescribeVirtualClusterRequest.builder().build(), emrContainersClient::describeVirtualCluster));
+
+        verify(metrics).recordCall(eq("DescribeVirtualCluster"), anyLong(), eq(2), eq(3), eq(true));
+        verify(proxyClient, times(3)).injectCredentialsAndInvokeV2(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResponse>>any());
+    }
+
+    @Test
+    public void invoke_RetryBudgetExhausted_DoesNotRetry() {
+        doThrow(throttlingException())
+                .when(proxyClient)
+                .injectCredentialsAndInvokeV2(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResponse>>any());
+
+        final EmrContainersInvoker invoker = invoker(new RetryBudget(0, 0.1));
+        assertThrows(CfnThrottlingException.class, () ->
+                invoker.invoke(proxyClient, metrics, DescribeVirtualClusterRequest.builder().build(), emrContainersClient::describeVirtualCluster));
+
+        verify(proxyClient, times(1)).injectCredentialsAndInvokeV2(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResponse>>any());
+    }
+
+    @Test
+    public void invoke_OtherServiceException_Rethrown() {
+        doThrow(InternalServerException.builder().message("error").build())
+                .when(proxyClient)
+                .injectCredentialsAndInvokeV2(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResponse>>any());
+
+        final EmrContainersInvoker invoker = invoker(new RetryBudget(10, 0.1));
+        assertThrows(InternalServerException.class, () ->
+                invoker.invoke(proxyClient, metrics, DescribeVirtualClusterRequest.builder().build(), emrContainersClient::describeVirtualCluster));
+
+        verify(proxyClient, times(1)).injectCredentialsAndInvokeV2(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResponse>>any());
+    }
+
+    @Test
+    public void invoke_ThreadInterrupted_AbortsWithoutCalling() {
+        final EmrContainersInvoker invoker = invoker(new RetryBudget(10, 0.1));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(AbortedException.class, () ->
+                    invoker.invoke(proxyClient, metrics, DescribeVirtualClusterRequest.builder().build(), emrContainersClient::describeVirtualCluster));
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+        verify(proxyClient, never()).injectCredentialsAndInvokeV2(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResponse>>any());
+        verify(metrics).recordCall(eq("DescribeVirtualCluster"), anyLong(), eq(0), eq(0), eq(true));
+    }
+
+    @Test
+    public void tryAcquire_BurstExhausted_ReturnsWait() {
+        final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(1, 2);
+
+        assertThat(rateLimiter.tryAcquire()).isEqualTo(0L);
+        assertThat(rateLimiter.tryAcquire()).isEqualTo(0L);
+        assertThat(rateLimiter.tryAcquire()).isGreaterThan(0L);
+    }
+
+    @Test
+    public void operationName_StripsRequestSuffix() {
+        assertThat(EmrContainersInvoker.operationName(DescribeVirtualClusterRequest.builder().build()))
+                .isEqualTo("DescribeVirtualCluster");
+    }
+
+    private EmrContainersInvoker invoker(RetryBudget retryBudget) {
+        return new EmrContainersInvoker(new TokenBucketRateLimiter(1000, 1000), retryBudget, 3, 0L, 0L);
+    }
+
+    private AwsServiceException throttlingException() {
+        return EmrContainersException.builder()
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode("ThrottlingException")
+                        .errorMessage("Rate exceeded")
+                        .build())
+                .build();
+    }
+}
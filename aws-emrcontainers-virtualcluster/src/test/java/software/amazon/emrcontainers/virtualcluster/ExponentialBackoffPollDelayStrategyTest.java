@@ -0,0 +1,36 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExponentialBackoffPollDelayStrategyTest {
+
+    private final ExponentialBackoffPollDelayStrategy strategy = ExponentialBackoffPollDelayStrategy.builder()
+            .baseDelaySeconds(5)
+            .maxDelaySeconds(60)
+            .timeoutMillis(1000L)
+            .random(new Random(42))
+            .build();
+
+    @Test
+    public void getDelaySeconds_FirstAttempt_ReturnsBaseDelay() {
+        assertThat(strategy.getDelaySeconds(0)).isEqualTo(5);
+    }
+
+    @Test
+    public void getDelaySeconds_LaterAttempts_GrowWithinCap() {
+        for (int attempt = 1; attempt < 100; attempt++) {
+            final int upperBound = (int) Math.min(60, 5L << Math.min(attempt, 20));
+            assertThat(strategy.getDelaySeconds(attempt)).isBetween(5, upperBound);
+        }
+    }
+
+    @Test
+    public void isTimedOut_BudgetExhausted() {
+        assertThat(strategy.isTimedOut(999L)).isFalse();
+        assertThat(strategy.isTimedOut(1000L)).isTrue();
+    }
+}
@@ -0,0 +1,339 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import lombok.Builder;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.CreateVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.CreateVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.DeleteVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DeleteVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersResponse;
+import software.amazon.awssdk.services.emrcontainers.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrcontainers.model.TagResourceRequest;
+import software.amazon.awssdk.services.emrcontainers.model.TagResourceResponse;
+import software.amazon.awssdk.services.emrcontainers.model.UntagResourceRequest;
+import software.amazon.awssdk.services.emrcontainers.model.UntagResourceResponse;
+import software.amazon.awssdk.services.emrcontainers.model.ValidationException;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory stand-in for the EMR Containers virtual cluster APIs, for driving the real handlers without a live
+ * service. It keeps one active virtual cluster per EKS cluster and namespace, honours client tokens, moves deleted
+ * clusters from TERMINATING to TERMINATED after a delay, rejects tag calls on terminated clusters, pages List results,
+ * and can add latency and random throttling to every call. Safe for concurrent use.
+ */
+public class FakeEmrContainers implements EmrContainersClient {
+    static final String ARN_PREFIX = "arn:aws:emr-containers:us-east-1:123456789012:/virtualclusters/";
+    private static final int SERVICE_MAX_PAGE_SIZE = 100;
+
+    private final long latencyMillis;
+    private final double throttleRate;
+    private final long terminatingMillis;
+    private final int maxPageSize;
+
+    private final NavigableMap<String, FakeCluster> clusters = new ConcurrentSkipListMap<>();
+    private final Map<String, String> clusterIdsByClientToken = new ConcurrentHashMap<>();
+    private final AtomicLong idSequence = new AtomicLong();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong throttles = new AtomicLong();
+
+    /**
+     * @param latencyMillis added to every call
+     * @param throttleRate probability in [0, 1] that a call is throttled
+     * @param terminatingMillis time a deleted cluster stays TERMINATING
+     * @param maxPageSize largest List page returned, or 0 for the service maximum
+     */
+    @Builder
+    FakeEmrContainers(final long latencyMillis,
+                      final double throttleRate,
+                      final long terminatingMillis,
+                      final int maxPageSize) {
+        this.latencyMillis = latencyMillis;
+        this.throttleRate = throttleRate;
+        this.terminatingMillis = terminatingMillis;
+        this.maxPageSize = maxPageSize > 0 ? maxPageSize : SERVICE_MAX_PAGE_SIZE;
+    }
+
+    @Override
+    public CreateVirtualClusterResponse createVirtualCluster(final CreateVirtualClusterRequest request) {
+        simulateCall();
+        final FakeCluster cluster;
+        synchronized (this) {
+            final String existingId = request.clientToken() == null
+                    ? null : clusterIdsByClientToken.get(request.clientToken());
+            if (existingId != null) {
+                cluster = clusters.get(existingId);
+            } else {
+                final String providerId = providerIdOf(request.containerProvider());
+                final String namespace = namespaceOf(request.containerProvider());
+                for (FakeCluster other : clusters.values()) {
+                    if (other.isActive()
+                            && Objects.equals(providerId, providerIdOf(other.containerProvider))
+                            && Objects.equals(namespace, namespaceOf(other.containerProvider))) {
+                        throw validationException("A virtual cluster already exists in the given namespace");
+                    }
+                }
+                final String id = String.format("vc%016d", idSequence.incrementAndGet());
+                cluster = new FakeCluster(id, request.name(), request.containerProvider(), request.tags());
+                clusters.put(id, cluster);
+                if (request.clientToken() != null) {
+                    clusterIdsByClientToken.put(request.clientToken(), id);
+                }
+            }
+        }
+        return CreateVirtualClusterResponse.builder()
+                .id(cluster.id)
+                .name(cluster.name)
+                .arn(ARN_PREFIX + cluster.id)
+                .build();
+    }
+
+    @Override
+    public DescribeVirtualClusterResponse describeVirtualCluster(final DescribeVirtualClusterRequest request) {
+        simulateCall();
+        return DescribeVirtualClusterResponse.builder()
+                .virtualCluster(getCluster(request.id()).toVirtualCluster())
+                .build();
+    }
+
+    @Override
+    public DeleteVirtualClusterResponse deleteVirtualCluster(final DeleteVirtualClusterRequest request) {
+        simulateCall();
+        final FakeCluster cluster = getCluster(request.id());
+        synchronized (cluster) {
+            if (cluster.state() == VirtualClusterState.TERMINATED) {
+                throw validationException("Virtual cluster " + cluster.id + " is already terminated");
+            }
+            if (cluster.deletedAtMillis == null) {
+                cluster.deletedAtMillis = System.currentTimeMillis();
+            }
+        }
+        return DeleteVirtualClusterResponse.builder().id(cluster.id).build();
+    }
+
+    @Override
+    public ListVirtualClustersResponse listVirtualClusters(final ListVirtualClustersRequest request) {
+        simulateCall();
+        final int pageSize = Math.min(maxPageSize,
+                request.maxResults() == null ? SERVICE_MAX_PAGE_SIZE : request.maxResults());
+        final NavigableMap<String, FakeCluster> remaining = request.nextToken() == null
+                ? clusters : clusters.tailMap(request.nextToken(), false);
+
+        final List<VirtualCluster> page = new ArrayList<>(pageSize);
+        String lastId = null;
+        for (FakeCluster cluster : remaining.values()) {
+            if (page.size() == pageSize) {
+                return ListVirtualClustersResponse.builder().virtualClusters(page).nextToken(lastId).build();
+            }
+            if (cluster.matches(request)) {
+                page.add(cluster.toVirtualCluster());
+            }
+            lastId = cluster.id;
+        }
+        return ListVirtualClustersResponse.builder().virtualClusters(page).build();
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        simulateCall();
+        final FakeCluster cluster = getCluster(idOf(request.resourceArn()));
+        synchronized (cluster) {
+            rejectIfTerminated(cluster);
+            cluster.tags.putAll(request.tags());
+        }
+        return TagResourceResponse.builder().build();
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        simulateCall();
+        final FakeCluster cluster = getCluster(idOf(request.resourceArn()));
+        synchronized (cluster) {
+            rejectIfTerminated(cluster);
+            request.tagKeys().forEach(cluster.tags::remove);
+        }
+        return UntagResourceResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    long getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * Put a cluster into the ARRESTED state, as the service does when its namespace becomes unusable.
+     *
+     * @param id
+     */
+    void arrest(final String id) {
+        final FakeCluster cluster = getCluster(id);
+        synchronized (cluster) {
+            cluster.arrested = true;
+        }
+    }
+
+    long getThrottles() {
+        return throttles.get();
+    }
+
+    private void simulateCall() {
+        calls.incrementAndGet();
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (throttleRate > 0 && ThreadLocalRandom.current().nextDouble() < throttleRate) {
+            throttles.incrementAndGet();
+            throw EmrContainersException.builder()
+                    .message("Rate exceeded")
+                    .statusCode(429)
+                    .awsErrorDetails(errorDetails("ThrottlingException", "Rate exceeded"))
+                    .build();
+        }
+    }
+
+    private FakeCluster getCluster(final String id) {
+        final FakeCluster cluster = id == null ? null : clusters.get(id);
+        if (cluster == null) {
+            throw resourceNotFoundException("Virtual cluster " + id + " does not exist");
+        }
+        return cluster;
+    }
+
+    private static String idOf(final String arn) {
+        return arn == null ? null : arn.substring(arn.lastIndexOf('/') + 1);
+    }
+
+    private static String providerIdOf(final software.amazon.awssdk.services.emrcontainers.model.ContainerProvider containerProvider) {
+        return containerProvider == null ? null : containerProvider.id();
+    }
+
+    private static String namespaceOf(final software.amazon.awssdk.services.emrcontainers.model.ContainerProvider containerProvider) {
+        if (containerProvider == null || containerProvider.info() == null
+                || containerProvider.info().eksInfo() == null) {
+            return null;
+        }
+        return containerProvider.info().eksInfo().namespace();
+    }
+
+    private static void rejectIfTerminated(final FakeCluster cluster) {
+        if (cluster.state() == VirtualClusterState.TERMINATED) {
+            throw resourceNotFoundException("Virtual cluster " + cluster.id + " is terminated");
+        }
+    }
+
+    private static ResourceNotFoundException resourceNotFoundException(final String message) {
+        return ResourceNotFoundException.builder()
+                .message(message)
+                .statusCode(404)
+                .awsErrorDetails(errorDetails("ResourceNotFoundException", message))
+                .build();
+    }
+
+    private static ValidationException validationException(final String message) {
+        return ValidationException.builder()
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(errorDetails("ValidationException", message))
+                .build();
+    }
+
+    private static AwsErrorDetails errorDetails(final String errorCode, final String errorMessage) {
+        return AwsErrorDetails.builder()
+                .serviceName(SERVICE_NAME)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    private class FakeCluster {
+        private final String id;
+        private final String name;
+        private final software.amazon.awssdk.services.emrcontainers.model.ContainerProvider containerProvider;
+        private final Instant createdAt = Instant.now();
+        private final Map<String, String> tags;
+        private Long deletedAtMillis;
+        private boolean arrested;
+
+        FakeCluster(final String id,
+                    final String name,
+                    final software.amazon.awssdk.services.emrcontainers.model.ContainerProvider containerProvider,
+                    final Map<String, String> tags) {
+            this.id = id;
+            this.name = name;
+            this.containerProvider = containerProvider;
+            this.tags = tags == null ? new HashMap<>() : new HashMap<>(tags);
+        }
+
+        synchronized VirtualClusterState state() {
+            if (deletedAtMillis == null) {
+                return arrested ? VirtualClusterState.ARRESTED : VirtualClusterState.RUNNING;
+            }
+            return System.currentTimeMillis() - deletedAtMillis < terminatingMillis
+                    ? VirtualClusterState.TERMINATING
+                    : VirtualClusterState.TERMINATED;
+        }
+
+        boolean isActive() {
+            return state() != VirtualClusterState.TERMINATED;
+        }
+
+        boolean matches(final ListVirtualClustersRequest request) {
+            if (request.hasStates() && !request.states().isEmpty() && !request.states().contains(state())) {
+                return false;
+            }
+            if (request.containerProviderId() != null
+                    && !request.containerProviderId().equals(containerProvider.id())) {
+                return false;
+            }
+            if (request.containerProviderTypeAsString() != null
+                    && !request.containerProviderTypeAsString().equalsIgnoreCase(containerProvider.typeAsString())) {
+                return false;
+            }
+            if (request.createdAfter() != null && !createdAt.isAfter(request.createdAfter())) {
+                return false;
+            }
+            return request.createdBefore() == null || createdAt.isBefore(request.createdBefore());
+        }
+
+        synchronized VirtualCluster toVirtualCluster() {
+            return VirtualCluster.builder()
+                    .id(id)
+                    .name(name)
+                    .arn(ARN_PREFIX + id)
+                    .state(state())
+                    .containerProvider(containerProvider)
+                    .createdAt(createdAt)
+                    .tags(new HashMap<>(tags))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.CreateVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DeleteVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersResponse;
+import software.amazon.awssdk.services.emrcontainers.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrcontainers.model.TagResourceRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ValidationException;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FakeEmrContainersTest {
+
+    @Test
+    public void createVirtualCluster_SameClientToken_ReturnsSameCluster() {
+        final FakeEmrContainers service = FakeEmrContainers.builder().build();
+
+        final String id = service.createVirtualCluster(createRequest("namespace").toBuilder().clientToken("token").build()).id();
+
+        assertThat(service.createVirtualCluster(createRequest("namespace").toBuilder().clientToken("token").build()).id()).isEqualTo(id);
+        assertThrows(ValidationException.class, () ->
+                service.createVirtualCluster(createRequest("namespace").toBuilder().clientToken("otherToken").build()));
+    }
+
+    @Test
+    public void createVirtualCluster_SameNamespaceOnOtherEksCluster_Created() {
+        final FakeEmrContainers service = FakeEmrContainers.builder().build();
+
+        final String id = service.createVirtualCluster(createRequest("eks-cluster", "namespace")).id();
+
+        assertThat(service.createVirtualCluster(createRequest("other-eks-cluster", "namespace")).id()).isNotEqualTo(id);
+    }
+
+    @Test
+    public void deleteVirtualCluster_TerminatingThenTerminated() throws InterruptedException {
+        final FakeEmrContainers service = FakeEmrContainers.builder().terminatingMillis(50L).build();
+        final String id = service.createVirtualCluster(createRequest("namespace")).id();
+
+        service.deleteVirtualCluster(DeleteVirtualClusterRequest.builder().id(id).build());
+        assertThat(describeState(service, id)).isEqualTo(VirtualClusterState.TERMINATING);
+
+        Thread.sleep(60L);
+        assertThat(describeState(service, id)).isEqualTo(VirtualClusterState.TERMINATED);
+        assertThrows(ValidationException.class, () ->
+                service.deleteVirtualCluster(DeleteVirtualClusterRequest.builder().id(id).build()));
+        assertThrows(ResourceNotFoundException.class, () -> service.tagResource(TagResourceRequest.builder()
+                .resourceArn(FakeEmrContainers.ARN_PREFIX + id)
+                .tags(Collections.singletonMap("key", "value"))
+                .build()));
+    }
+
+    @Test
+    public void listVirtualClusters_PagesThroughMatchingClusters() {
+        final FakeEmrContainers service = FakeEmrContainers.builder().maxPageSize(2).build();
+        for (int i = 0; i < 5; i++) {
+            service.createVirtualCluster(createRequest("namespace" + i));
+        }
+
+        int listed = 0;
+        int pages = 0;
+        String nextToken = null;
+        do {
+            final ListVirtualClustersResponse page = service.listVirtualClusters(
+                    ListVirtualClustersRequest.builder().maxResults(50).nextToken(nextToken).build());
+            listed += page.virtualClusters().size();
+            pages++;
+            nextToken = page.nextToken();
+        } while (nextToken != null);
+
+        assertThat(listed).isEqualTo(5);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    public void describeVirtualCluster_ThrottleRateOne_AlwaysThrottled() {
+        final FakeEmrContainers service = FakeEmrContainers.builder().throttleRate(1.0).build();
+
+        final EmrContainersException exception = assertThrows(EmrContainersException.class, () ->
+                service.describeVirtualCluster(DescribeVirtualClusterRequest.builder().id("id").build()));
+
+        assertThat(exception.awsErrorDetails().errorCode()).isEqualTo("ThrottlingException");
+        assertThat(service.getThrottles()).isEqualTo(1L);
+    }
+
+    private static VirtualClusterState describeState(final FakeEmrContainers service, final String id) {
+        return service.describeVirtualCluster(DescribeVirtualClusterRequest.builder().id(id).build()).virtualCluster().state();
+    }
+
+    private static CreateVirtualClusterRequest createRequest(final String namespace) {
+        return createRequest("eks-cluster", namespace);
+    }
+
+    private static CreateVirtualClusterRequest createRequest(final String eksClusterId, final String namespace) {
+        return CreateVirtualClusterRequest.builder()
+                .name("name")
+                .containerProvider(Translator.translate(ContainerProvider.builder()
+                        .id(eksClusterId)
+                        .type("EKS")
+                        .info(ContainerInfo.builder()
+                                .eksInfo(EksInfo.builder().namespace(namespace).build())
+                                .build())
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.CreateVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a single handler instance from many threads at once, each request naming a different cluster, and checks
+ * that no request sees the state of another.
+ */
+public class HandlerConcurrencyTest {
+    private static final String REGION = "us-east-1";
+    private static final String AWS_ACCOUNT_ID = "123456789012";
+    private static final int CLUSTERS = 50;
+    private static final int THREADS = 32;
+    private static final int REQUESTS = 2000;
+
+    private final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+            new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+            () -> TimeUnit.MINUTES.toMillis(15));
+    private final LoggerProxy logger = new LoggerProxy();
+
+    private FakeEmrContainers service;
+    private List<String> ids;
+
+    @BeforeEach
+    public void setup() {
+        service = FakeEmrContainers.builder().latencyMillis(1L).build();
+        ClientBuilder.setClient(service);
+        EmrContainersInvoker.setInstance(new EmrContainersInvoker(
+                new TokenBucketRateLimiter(1_000_000, 1_000_000),
+                new RetryBudget(Integer.MAX_VALUE, 0),
+                Constants.THROTTLE_MAX_ATTEMPTS, 1L, 20L));
+
+        ids = new ArrayList<>(CLUSTERS);
+        for (int i = 0; i < CLUSTERS; i++) {
+            ids.add(service.createVirtualCluster(CreateVirtualClusterRequest.builder()
+                    .name("name-" + i)
+                    .containerProvider(Translator.translate(ContainerProvider.builder()
+                            .id("eks-cluster")
+                            .type("EKS")
+                            .info(ContainerInfo.builder()
+                                    .eksInfo(EksInfo.builder().namespace("namespace-" + i).build())
+                                    .build())
+                            .build()))
+                    .build())
+                    .id());
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ClientBuilder.reset();
+        EmrContainersInvoker.reset();
+        VirtualClusterCache.getInstance().clear();
+        ReadBurstDetector.getInstance().clear();
+    }
+
+    @Test
+    public void readHandler_SharedInstance_EachRequestSeesItsOwnCluster() throws InterruptedException {
+        final ReadHandler handler = new ReadHandler();
+
+        final List<String> failures = runConcurrently(request -> {
+            final int index = request % CLUSTERS;
+            final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                    request(ResourceModel.builder().id(ids.get(index)).build(), "read-" + request), null, logger);
+
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getId()).isEqualTo(ids.get(index));
+            assertThat(response.getResourceModel().getName()).isEqualTo("name-" + index);
+        });
+
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    public void updateHandler_SharedInstance_TagsLandOnTheirOwnCluster() throws InterruptedException {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final List<String> failures = runConcurrently(request -> {
+            final String id = ids.get(request % CLUSTERS);
+            final ResourceHandlerRequest<ResourceModel> updateRequest = request(ResourceModel.builder().id(id).build(),
+                    "update-" + request);
+            updateRequest.setDesiredResourceTags(Collections.singletonMap("owner", id));
+
+            assertThat(handler.handleRequest(proxy, updateRequest, null, logger).getStatus())
+                    .isEqualTo(OperationStatus.SUCCESS);
+        });
+
+        assertThat(failures).isEmpty();
+        for (String id : ids) {
+            assertThat(service.describeVirtualCluster(DescribeVirtualClusterRequest.builder().id(id).build())
+                    .virtualCluster().tags()).containsEntry("owner", id);
+        }
+    }
+
+    /**
+     * Issue the requests from a pool of threads that are released together.
+     *
+     * @param request run with the request number
+     * @return failure descriptions, empty when every request succeeded
+     */
+    private List<String> runConcurrently(final IntConsumer request) throws InterruptedException {
+        final Queue<String> failures = new ConcurrentLinkedQueue<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                final int requestNumber = i;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        request.accept(requestNumber);
+                    } catch (Throwable e) {
+                        failures.add("request " + requestNumber + ": " + e);
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+        return new ArrayList<>(failures);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model, final String token) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region(REGION)
+                .awsAccountId(AWS_ACCOUNT_ID)
+                .clientRequestToken(token)
+                .build();
+    }
+}
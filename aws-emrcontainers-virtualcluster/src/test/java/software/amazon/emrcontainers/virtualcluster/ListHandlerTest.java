@@ -1,12 +1,19 @@
 package software.amazon.emrcontainers.virtualcluster;
 
-import com.amazonaws.services.emrcontainers.model.*;
-import org.mockito.ArgumentMatchers;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersResponse;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+import org.mockito.ArgumentCaptor;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,26 +21,39 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest {
 
-    @Mock
     private AmazonWebServicesClientProxy proxy;
 
+    @Mock
+    private EmrContainersClient sdkClient;
+
     @Mock
     private Logger logger;
 
     @BeforeEach
     public void setup() {
-        proxy = mock(AmazonWebServicesClientProxy.class);
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                () -> TimeUnit.MINUTES.toMillis(15));
         logger = mock(Logger.class);
+        sdkClient = mock(EmrContainersClient.class);
+        ClientBuilder.setClient(sdkClient);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ClientBuilder.reset();
+        VirtualClusterCache.getInstance().clear();
     }
 
     @Test
@@ -43,12 +63,12 @@ public class ListHandlerTest {
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(ResourceModel.builder().build())
                 .build();
-        ListVirtualClustersResult listVirtualClustersResult = new ListVirtualClustersResult();
-        listVirtualClustersResult.setVirtualClusters(Arrays.asList(
-            buildVirtualCluster("1", VirtualClusterState.RUNNING), buildVirtualCluster("2", VirtualClusterState.TERMINATED)));
-        doReturn(listVirtualClustersResult)
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(ListVirtualClustersRequest.class), ArgumentMatchers.<Function<ListVirtualClustersRequest, ListVirtualClustersResult>>any());
+        ListVirtualClustersResponse listVirtualClustersResponse = ListVirtualClustersResponse.builder()
+            .virtualClusters(Arrays.asList(buildVirtualCluster("1", VirtualClusterState.RUNNING)))
+            .build();
+        doReturn(listVirtualClustersResponse)
+                .when(sdkClient)
+                .listVirtualClusters(any(ListVirtualClustersRequest.class));
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -70,29 +90,95 @@ public class ListHandlerTest {
         assertThat(model.getContainerProvider().getId()).isEqualTo("eksId1");
         assertThat(model.getContainerProvider().getType()).isEqualTo("eks");
         assertThat(model.getContainerProvider().getInfo().getEksInfo().getNamespace()).isEqualTo("namespace1");
+
+        ArgumentCaptor<ListVirtualClustersRequest> requestCaptor = ArgumentCaptor.forClass(ListVirtualClustersRequest.class);
+        verify(sdkClient).listVirtualClusters(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().states()).containsExactlyInAnyOrder(
+            VirtualClusterState.RUNNING, VirtualClusterState.ARRESTED, VirtualClusterState.TERMINATING);
+        assertThat(requestCaptor.getValue().containerProviderId()).isNull();
+    }
+
+    @Test
+    public void handleRequest_ContainerProvider_FilteredServerSide() {
+        final ListHandler handler = new ListHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                    .containerProvider(ContainerProvider.builder().id("eksId1").type("EKS").build())
+                    .build())
+                .build();
+        ListVirtualClustersResponse listVirtualClustersResponse = ListVirtualClustersResponse.builder()
+            .virtualClusters(Arrays.asList(buildVirtualCluster("1", VirtualClusterState.RUNNING)))
+            .build();
+        doReturn(listVirtualClustersResponse)
+                .when(sdkClient)
+                .listVirtualClusters(any(ListVirtualClustersRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModels().size()).isEqualTo(1);
+
+        ArgumentCaptor<ListVirtualClustersRequest> requestCaptor = ArgumentCaptor.forClass(ListVirtualClustersRequest.class);
+        verify(sdkClient).listVirtualClusters(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().containerProviderId()).isEqualTo("eksId1");
+        assertThat(requestCaptor.getValue().containerProviderTypeAsString()).isEqualTo("EKS");
+    }
+
+    @Test
+    public void handleRequest_NextToken_ForwardedAndReturned() {
+        final ListHandler handler = new ListHandler(2);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .nextToken("token1")
+                .build();
+        ListVirtualClustersResponse listVirtualClustersResponse = ListVirtualClustersResponse.builder()
+            .virtualClusters(Arrays.asList(
+                buildVirtualCluster("1", VirtualClusterState.RUNNING), buildVirtualCluster("2", VirtualClusterState.RUNNING)))
+            .nextToken("token2")
+            .build();
+        doReturn(listVirtualClustersResponse)
+                .when(sdkClient)
+                .listVirtualClusters(any(ListVirtualClustersRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels().size()).isEqualTo(2);
+        assertThat(response.getNextToken()).isEqualTo("token2");
+
+        ArgumentCaptor<ListVirtualClustersRequest> requestCaptor = ArgumentCaptor.forClass(ListVirtualClustersRequest.class);
+        verify(sdkClient).listVirtualClusters(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().nextToken()).isEqualTo("token1");
+        assertThat(requestCaptor.getValue().maxResults()).isEqualTo(2);
     }
 
     private VirtualCluster buildVirtualCluster(String id, VirtualClusterState virtualClusterState) {
-        com.amazonaws.services.emrcontainers.model.EksInfo eksInfo =
-                new com.amazonaws.services.emrcontainers.model.EksInfo();
-        eksInfo.setNamespace("namespace" + id);
-
-        com.amazonaws.services.emrcontainers.model.ContainerInfo containerInfo =
-                new com.amazonaws.services.emrcontainers.model.ContainerInfo();
-        containerInfo.setEksInfo(eksInfo);
-
-        com.amazonaws.services.emrcontainers.model.ContainerProvider containerProvider =
-                new com.amazonaws.services.emrcontainers.model.ContainerProvider();
-        containerProvider.setInfo(containerInfo);
-        containerProvider.setId("eksId" + id);
-        containerProvider.setType("eks");
-
-        VirtualCluster virtualCluster = new VirtualCluster();
-        virtualCluster.setId(id);
-        virtualCluster.setState(virtualClusterState.toString());
-        virtualCluster.setName("name" + id);
-        virtualCluster.setArn("arn" + id);
-        virtualCluster.setContainerProvider(containerProvider);
-        return virtualCluster;
+        software.amazon.awssdk.services.emrcontainers.model.EksInfo eksInfo =
+                software.amazon.awssdk.services.emrcontainers.model.EksInfo.builder()
+                        .namespace("namespace" + id)
+                        .build();
+
+        software.amazon.awssdk.services.emrcontainers.model.ContainerInfo containerInfo =
+                software.amazon.awssdk.services.emrcontainers.model.ContainerInfo.builder()
+                        .eksInfo(eksInfo)
+                        .build();
+
+        software.amazon.awssdk.services.emrcontainers.model.ContainerProvider containerProvider =
+                software.amazon.awssdk.services.emrcontainers.model.ContainerProvider.builder()
+                        .info(containerInfo)
+                        .id("eksId" + id)
+                        .type("eks")
+                        .build();
+
+        return VirtualCluster.builder()
+                .id(id)
+                .state(virtualClusterState)
+                .name("name" + id)
+                .arn("arn" + id)
+                .containerProvider(containerProvider)
+                .build();
     }
 }
@@ -0,0 +1,281 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import lombok.Builder;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs create/read/update/list/delete sequences concurrently through the real handlers against an in-memory
+ * service, and reports throughput and per-action latency percentiles. All sequences share one instance of each
+ * handler. Callback re-invocations are issued immediately instead of after the requested delay.
+ */
+public class LoadDriver {
+    private static final String REGION = "us-east-1";
+    private static final String AWS_ACCOUNT_ID = "123456789012";
+    private static final int MAX_CALLBACKS = 1000;
+
+    enum Action { CREATE, READ, UPDATE, LIST, DELETE }
+
+    private final FakeEmrContainers service;
+    private final int sequences;
+    private final int concurrency;
+    private final CreateHandler createHandler;
+    private final ReadHandler readHandler = new ReadHandler();
+    private final UpdateHandler updateHandler = new UpdateHandler();
+    private final ListHandler listHandler = new ListHandler();
+    private final DeleteHandler deleteHandler;
+
+    private final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+            new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+            () -> TimeUnit.MINUTES.toMillis(15));
+    private final LoggerProxy logger = new LoggerProxy();
+    private final Map<Action, Queue<Long>> latencies = new EnumMap<>(Action.class);
+    private final Map<Action, AtomicLong> failures = new EnumMap<>(Action.class);
+
+    @Builder
+    LoadDriver(final FakeEmrContainers service,
+               final int sequences,
+               final int concurrency,
+               final long inProcessStabilizationMillis,
+               final long inProcessPollIntervalMillis) {
+        this.service = service;
+        this.sequences = sequences;
+        this.concurrency = concurrency;
+        this.createHandler = new CreateHandler(inProcessStabilizationMillis, inProcessPollIntervalMillis);
+        this.deleteHandler = new DeleteHandler(inProcessStabilizationMillis, inProcessPollIntervalMillis);
+        for (Action action : Action.values()) {
+            latencies.put(action, new ConcurrentLinkedQueue<>());
+            failures.put(action, new AtomicLong());
+        }
+    }
+
+    /**
+     * Run all sequences and wait for them to finish. The handlers share the fake service as their client and an
+     * invoker without a call rate limit; both are restored afterwards.
+     *
+     * @return
+     * @throws InterruptedException
+     */
+    Report run() throws InterruptedException {
+        ClientBuilder.setClient(service);
+        EmrContainersInvoker.setInstance(new EmrContainersInvoker(
+                new TokenBucketRateLimiter(1_000_000, 1_000_000),
+                new RetryBudget(Integer.MAX_VALUE, 0),
+                Constants.THROTTLE_MAX_ATTEMPTS, 1L, 20L));
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        final long startNanos = System.nanoTime();
+        try {
+            for (int i = 0; i < sequences; i++) {
+                final int sequence = i;
+                executor.execute(() -> runSequence(sequence));
+            }
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.HOURS);
+        } finally {
+            executor.shutdownNow();
+            ClientBuilder.reset();
+            EmrContainersInvoker.reset();
+        }
+        return new Report(System.nanoTime() - startNanos);
+    }
+
+    private void runSequence(final int sequence) {
+        final ContainerProvider containerProvider = ContainerProvider.builder()
+                .id("eks-cluster-" + sequence % concurrency)
+                .type("EKS")
+                .info(ContainerInfo.builder()
+                        .eksInfo(EksInfo.builder().namespace("namespace-" + sequence).build())
+                        .build())
+                .build();
+        final String token = "load-" + sequence;
+
+        final ResourceModel created = drive(Action.CREATE, token, ResourceModel.builder()
+                .name("load-" + sequence)
+                .containerProvider(containerProvider)
+                .build(), createHandler);
+        if (created == null) {
+            return;
+        }
+
+        final ResourceModel read = call(Action.READ, () -> readHandler.handleRequest(proxy,
+                request(token, ResourceModel.builder().id(created.getId()).build()), null, logger));
+        if (read == null) {
+            return;
+        }
+
+        call(Action.UPDATE, () -> updateHandler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder().id(created.getId()).build())
+                        .desiredResourceTags(Collections.singletonMap("sequence", String.valueOf(sequence)))
+                        .previousResourceState(read)
+                        .previousResourceTags(Collections.emptyMap())
+                        .region(REGION)
+                        .awsAccountId(AWS_ACCOUNT_ID)
+                        .clientRequestToken(token)
+                        .build(), null, logger));
+
+        listAll(token, containerProvider);
+
+        drive(Action.DELETE, token, ResourceModel.builder().id(created.getId()).build(), deleteHandler);
+    }
+
+    private void listAll(final String token, final ContainerProvider containerProvider) {
+        String nextToken = null;
+        do {
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(ResourceModel.builder().containerProvider(containerProvider).build())
+                    .region(REGION)
+                    .awsAccountId(AWS_ACCOUNT_ID)
+                    .clientRequestToken(token)
+                    .nextToken(nextToken)
+                    .build();
+            final long startNanos = System.nanoTime();
+            try {
+                nextToken = listHandler.handleRequest(proxy, request, null, logger).getNextToken();
+                latencies.get(Action.LIST).add(System.nanoTime() - startNanos);
+            } catch (RuntimeException e) {
+                failures.get(Action.LIST).incrementAndGet();
+                return;
+            }
+        } while (nextToken != null);
+    }
+
+    /**
+     * Invoke a handler, re-invoking it with the returned callback context until it completes.
+     *
+     * @return the final model, or null when the action failed
+     */
+    private ResourceModel drive(final Action action,
+                                final String token,
+                                final ResourceModel model,
+                                final BaseHandler<CallbackContext> handler) {
+        ResourceModel currentModel = model;
+        CallbackContext callbackContext = null;
+        for (int invocation = 0; invocation < MAX_CALLBACKS; invocation++) {
+            final ResourceModel requestModel = currentModel;
+            final CallbackContext requestContext = callbackContext;
+            final long startNanos = System.nanoTime();
+            final ProgressEvent<ResourceModel, CallbackContext> event;
+            try {
+                event = handler.handleRequest(proxy, request(token, requestModel), requestContext, logger);
+            } catch (RuntimeException e) {
+                failures.get(action).incrementAndGet();
+                return null;
+            }
+            latencies.get(action).add(System.nanoTime() - startNanos);
+
+            if (event.getStatus() == OperationStatus.SUCCESS) {
+                return event.getResourceModel() == null ? requestModel : event.getResourceModel();
+            }
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                failures.get(action).incrementAndGet();
+                return null;
+            }
+            callbackContext = event.getCallbackContext();
+            if (event.getResourceModel() != null) {
+                currentModel = event.getResourceModel();
+            }
+        }
+        failures.get(action).incrementAndGet();
+        return null;
+    }
+
+    private ResourceModel call(final Action action,
+                               final Supplier<ProgressEvent<ResourceModel, CallbackContext>> invocation) {
+        final long startNanos = System.nanoTime();
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> event = invocation.get();
+            latencies.get(action).add(System.nanoTime() - startNanos);
+            if (event.getStatus() != OperationStatus.SUCCESS) {
+                failures.get(action).incrementAndGet();
+                return null;
+            }
+            return event.getResourceModel();
+        } catch (RuntimeException e) {
+            failures.get(action).incrementAndGet();
+            return null;
+        }
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final String token, final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region(REGION)
+                .awsAccountId(AWS_ACCOUNT_ID)
+                .clientRequestToken(token)
+                .build();
+    }
+
+    /**
+     * Outcome of a load run.
+     */
+    class Report {
+        private final long elapsedNanos;
+
+        Report(final long elapsedNanos) {
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        long getFailures() {
+            return failures.values().stream().mapToLong(AtomicLong::get).sum();
+        }
+
+        long getFailures(final Action action) {
+            return failures.get(action).get();
+        }
+
+        long getInvocations(final Action action) {
+            return latencies.get(action).size();
+        }
+
+        double getSequencesPerSecond() {
+            return sequences / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * @param action
+         * @param percentile in (0, 100]
+         * @return handler invocation latency in milliseconds
+         */
+        double getLatencyMillis(final Action action, final double percentile) {
+            final long[] sorted = latencies.get(action).stream().mapToLong(Long::longValue).sorted().toArray();
+            if (sorted.length == 0) {
+                return 0;
+            }
+            final int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            final List<String> lines = new ArrayList<>();
+            lines.add(String.format("%d sequences x %d threads in %.1f s: %.1f sequences/s, %d service calls, "
+                            + "%d throttled, %d failures",
+                    sequences, concurrency, elapsedNanos / 1e9, getSequencesPerSecond(),
+                    service.getCalls(), service.getThrottles(), getFailures()));
+            for (Action action : Action.values()) {
+                lines.add(String.format("  %-6s invocations=%d failures=%d p50=%.2f ms p99=%.2f ms",
+                        action, getInvocations(action), getFailures(action),
+                        getLatencyMillis(action, 50), getLatencyMillis(action, 99)));
+            }
+            return String.join(System.lineSeparator(), lines);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Small load run through the real handlers. Scale it up for an actual load test with, for example,
+ * {@code mvn test -Dtest=LoadDriverTest -Dload.sequences=5000 -Dload.concurrency=64 -Dload.throttleRate=0.05}.
+ */
+public class LoadDriverTest {
+
+    @AfterEach
+    public void tearDown() {
+        VirtualClusterCache.getInstance().clear();
+        ReadBurstDetector.getInstance().clear();
+    }
+
+    @Test
+    public void run_ConcurrentSequences_AllSucceed() throws InterruptedException {
+        final FakeEmrContainers service = FakeEmrContainers.builder()
+                .latencyMillis(Long.getLong("load.latencyMillis", 1L))
+                .throttleRate(Double.parseDouble(System.getProperty("load.throttleRate", "0.02")))
+                .terminatingMillis(Long.getLong("load.terminatingMillis", 20L))
+                .maxPageSize(Integer.getInteger("load.pageSize", 5))
+                .build();
+
+        final LoadDriver.Report report = LoadDriver.builder()
+                .service(service)
+                .sequences(Integer.getInteger("load.sequences", 200))
+                .concurrency(Integer.getInteger("load.concurrency", 16))
+                .inProcessStabilizationMillis(1000L)
+                .inProcessPollIntervalMillis(5L)
+                .build()
+                .run();
+
+        if (System.getProperties().stringPropertyNames().stream().anyMatch(name -> name.startsWith("load."))) {
+            // Only a scaled-up run is read by a person; the default run just has to pass.
+            System.out.println(report);
+        }
+        assertThat(report.getFailures()).isEqualTo(0L);
+        assertThat(report.getInvocations(LoadDriver.Action.READ)).isEqualTo(Integer.getInteger("load.sequences", 200).longValue());
+    }
+}
@@ -0,0 +1,87 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.CreateVirtualClusterRequest;
+import software.amazon.awssdk.utils.IoUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocalHandlerHostTest {
+
+    private FakeEmrContainers service;
+    private LocalHandlerHost host;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        service = FakeEmrContainers.builder().build();
+        ClientBuilder.setClient(service);
+        host = LocalHandlerHost.builder().port(0).workerThreads(2).build();
+        host.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        host.stop();
+        ClientBuilder.reset();
+        VirtualClusterCache.getInstance().clear();
+        ReadBurstDetector.getInstance().clear();
+    }
+
+    @Test
+    public void functionName_InvocationPaths() {
+        assertThat(LocalHandlerHost.functionName("/2015-03-31/functions/TestEntrypoint/invocations")).isEqualTo("TestEntrypoint");
+        assertThat(LocalHandlerHost.functionName("/2015-03-31/functions/TypeFunction/invocations")).isEqualTo("TypeFunction");
+        assertThat(LocalHandlerHost.functionName("/2015-03-31/functions/Other/invocations")).isNull();
+        assertThat(LocalHandlerHost.functionName("/2015-03-31/functions/TestEntrypoint")).isNull();
+    }
+
+    @Test
+    public void invoke_TestEntrypointRead_DispatchedToReadHandler() throws IOException {
+        final String id = service.createVirtualCluster(CreateVirtualClusterRequest.builder()
+                .name("name")
+                .containerProvider(Translator.translate(ContainerProvider.builder()
+                        .id("eks-cluster")
+                        .type("EKS")
+                        .info(ContainerInfo.builder()
+                                .eksInfo(EksInfo.builder().namespace("namespace").build())
+                                .build())
+                        .build()))
+                .build())
+                .id();
+
+        final HttpURLConnection connection = post("/2015-03-31/functions/TestEntrypoint/invocations", "{"
+                + "\"credentials\":{\"accessKeyId\":\"accessKeyId\",\"secretAccessKey\":\"secretAccessKey\",\"sessionToken\":\"sessionToken\"},"
+                + "\"action\":\"READ\","
+                + "\"request\":{\"clientRequestToken\":\"token\",\"region\":\"us-east-1\",\"awsAccountId\":\"123456789012\","
+                + "\"desiredResourceState\":{\"Id\":\"" + id + "\"}},"
+                + "\"callbackContext\":null}");
+
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        final String response = IoUtils.toUtf8String(connection.getInputStream());
+        assertThat(response).contains("SUCCESS").contains(id).contains("namespace");
+    }
+
+    @Test
+    public void invoke_UnknownFunction_NotFound() throws IOException {
+        assertThat(post("/2015-03-31/functions/Other/invocations", "{}").getResponseCode()).isEqualTo(404);
+    }
+
+    private HttpURLConnection post(final String path, final String body) throws IOException {
+        final HttpURLConnection connection =
+                (HttpURLConnection) new URL("http://localhost:" + host.getPort() + path).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream requestBody = connection.getOutputStream()) {
+            requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return connection;
+    }
+}
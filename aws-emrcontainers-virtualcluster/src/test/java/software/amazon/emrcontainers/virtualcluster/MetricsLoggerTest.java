@@ -0,0 +1,62 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.cloudformation.proxy.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class MetricsLoggerTest {
+
+    private Logger logger;
+
+    @BeforeEach
+    public void setup() {
+        logger = mock(Logger.class);
+    }
+
+    @Test
+    public void recordCall_EmitsEmbeddedMetricFormat() throws Exception {
+        new MetricsLogger(logger, "token", "clusterId").recordCall("DescribeVirtualCluster", 42L, 1, 2, false);
+
+        final JsonNode line = loggedLine();
+        final JsonNode directive = line.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(directive.get("Namespace").asText()).isEqualTo(MetricsLogger.NAMESPACE);
+        assertThat(directive.get("Dimensions").get(0).get(0).asText()).isEqualTo("Operation");
+        assertThat(directive.get("Metrics")).hasSize(4);
+        assertThat(directive.get("Metrics").get(0).get("Unit").asText()).isEqualTo("Milliseconds");
+
+        assertThat(line.get("Operation").asText()).isEqualTo("DescribeVirtualCluster");
+        assertThat(line.get("Latency").asLong()).isEqualTo(42L);
+        assertThat(line.get("Retries").asInt()).isEqualTo(1);
+        assertThat(line.get("Throttles").asInt()).isEqualTo(2);
+        assertThat(line.get("Errors").asInt()).isEqualTo(0);
+        assertThat(line.get("ClientRequestToken").asText()).isEqualTo("token");
+        assertThat(line.get("VirtualClusterId").asText()).isEqualTo("clusterId");
+    }
+
+    @Test
+    public void recordStabilizationAttempt_UnknownCluster_OmitsClusterId() throws Exception {
+        new MetricsLogger(logger, "token", null).recordStabilizationAttempt("CreateStabilization", 3);
+
+        final JsonNode line = loggedLine();
+        assertThat(line.get("StabilizationAttempts").asInt()).isEqualTo(3);
+        assertThat(line.has("VirtualClusterId")).isFalse();
+    }
+
+    @Test
+    public void none_DiscardsMetrics() {
+        MetricsLogger.NONE.recordCall("ListVirtualClusters", 1L, 0, 0, false);
+    }
+
+    private JsonNode loggedLine() throws Exception {
+        final ArgumentCaptor<String> lineCaptor = ArgumentCaptor.forClass(String.class);
+        verify(logger).log(lineCaptor.capture());
+        return new ObjectMapper().readTree(lineCaptor.getValue());
+    }
+}
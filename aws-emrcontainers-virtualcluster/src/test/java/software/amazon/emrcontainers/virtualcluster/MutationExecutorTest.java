@@ -0,0 +1,55 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MutationExecutorTest {
+
+    @Test
+    public void runAll_AllMutationsRun() {
+        final AtomicInteger runs = new AtomicInteger();
+
+        MutationExecutor.runAll(Arrays.asList(runs::incrementAndGet, runs::incrementAndGet, runs::incrementAndGet));
+
+        assertThat(runs.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void runAll_OneFails_OthersStillRun() {
+        final AtomicInteger runs = new AtomicInteger();
+        final Runnable failing = () -> {
+            throw new CfnInvalidRequestException("invalid");
+        };
+
+        assertThrows(CfnInvalidRequestException.class, () ->
+                MutationExecutor.runAll(Arrays.asList(failing, runs::incrementAndGet, runs::incrementAndGet)));
+        assertThat(runs.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void runAll_SingleMutation_RunsOnCallingThread() {
+        final Thread caller = Thread.currentThread();
+        MutationExecutor.runAll(Collections.singletonList(() -> assertThat(Thread.currentThread()).isSameAs(caller)));
+    }
+
+    @Test
+    public void aggregate_ReportsByPrecedenceAndSuppressesOthers() {
+        final RuntimeException invalidRequest = new CfnInvalidRequestException("invalid");
+        final RuntimeException throttled = new CfnThrottlingException("tagResource", new RuntimeException());
+        final RuntimeException notFound = new CfnNotFoundException(ResourceModel.TYPE_NAME, "id");
+
+        final RuntimeException reported = MutationExecutor.aggregate(Arrays.asList(invalidRequest, throttled, notFound));
+
+        assertThat(reported).isSameAs(notFound);
+        assertThat(reported.getSuppressed()).containsExactly(invalidRequest, throttled);
+    }
+}
@@ -0,0 +1,42 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadBurstDetectorTest {
+
+    private final AtomicLong now = new AtomicLong(1000000L);
+
+    @Test
+    public void recordMiss_ThresholdReached_TriggersOncePerWindow() {
+        final ReadBurstDetector detector = new ReadBurstDetector(3, 10000L, 10, now::get);
+
+        assertThat(detector.recordMiss("123456789012")).isFalse();
+        assertThat(detector.recordMiss("123456789012")).isFalse();
+        assertThat(detector.recordMiss("123456789012")).isTrue();
+        assertThat(detector.recordMiss("123456789012")).isFalse();
+    }
+
+    @Test
+    public void recordMiss_WindowPassed_CountsAgain() {
+        final ReadBurstDetector detector = new ReadBurstDetector(2, 10000L, 10, now::get);
+        detector.recordMiss("123456789012");
+
+        now.addAndGet(10000L);
+
+        assertThat(detector.recordMiss("123456789012")).isFalse();
+        assertThat(detector.recordMiss("123456789012")).isTrue();
+    }
+
+    @Test
+    public void recordMiss_OtherAccount_CountedSeparately() {
+        final ReadBurstDetector detector = new ReadBurstDetector(2, 10000L, 10, now::get);
+        detector.recordMiss("111111111111");
+
+        assertThat(detector.recordMiss("222222222222")).isFalse();
+        assertThat(detector.recordMiss("111111111111")).isTrue();
+    }
+}
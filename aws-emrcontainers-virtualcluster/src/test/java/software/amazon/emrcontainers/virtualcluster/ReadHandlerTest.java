@@ -1,24 +1,32 @@
 package software.amazon.emrcontainers.virtualcluster;
 
-import com.amazonaws.services.emrcontainers.model.DescribeVirtualClusterRequest;
-import com.amazonaws.services.emrcontainers.model.DescribeVirtualClusterResult;
-import com.amazonaws.services.emrcontainers.model.VirtualCluster;
-import com.amazonaws.services.emrcontainers.model.VirtualClusterState;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.EmrContainersException;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersResponse;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
 import org.junit.jupiter.api.Assertions;
-import org.mockito.ArgumentMatchers;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,16 +35,29 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest {
 
-    @Mock
     private AmazonWebServicesClientProxy proxy;
 
+    @Mock
+    private EmrContainersClient sdkClient;
+
     @Mock
     private Logger logger;
 
     @BeforeEach
     public void setup() {
-        proxy = mock(AmazonWebServicesClientProxy.class);
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                () -> TimeUnit.MINUTES.toMillis(15));
         logger = mock(Logger.class);
+        sdkClient = mock(EmrContainersClient.class);
+        ClientBuilder.setClient(sdkClient);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ClientBuilder.reset();
+        VirtualClusterCache.getInstance().clear();
+        ReadBurstDetector.getInstance().clear();
     }
 
     @Test
@@ -61,17 +82,18 @@ public class ReadHandlerTest {
                 .desiredResourceState(model)
                 .build();
 
-        VirtualCluster virtualCluster = new VirtualCluster();
-        virtualCluster.setName(virtualClusterName);
-        virtualCluster.setId("virtualClusterId");
-        virtualCluster.setState("RUNNING");
-        virtualCluster.setContainerProvider(Translator.translate(model.getContainerProvider()));
-        DescribeVirtualClusterResult describeVirtualClusterResult = new DescribeVirtualClusterResult();
-        describeVirtualClusterResult.setVirtualCluster(virtualCluster);
-        doReturn(describeVirtualClusterResult)
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
-        ;
+        VirtualCluster virtualCluster = VirtualCluster.builder()
+                .name(virtualClusterName)
+                .id("virtualClusterId")
+                .state(VirtualClusterState.RUNNING)
+                .containerProvider(Translator.translate(model.getContainerProvider()))
+                .build();
+        DescribeVirtualClusterResponse describeVirtualClusterResponse = DescribeVirtualClusterResponse.builder()
+                .virtualCluster(virtualCluster)
+                .build();
+        doReturn(describeVirtualClusterResponse)
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -84,10 +106,10 @@ public class ReadHandlerTest {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
-        assertThat(response.getResourceModel().getId()).isEqualTo(virtualCluster.getId());
-        assertThat(response.getResourceModel().getName()).isEqualTo(virtualCluster.getName());
+        assertThat(response.getResourceModel().getId()).isEqualTo(virtualCluster.id());
+        assertThat(response.getResourceModel().getName()).isEqualTo(virtualCluster.name());
         assertThat(response.getResourceModel().getContainerProvider()).isNotNull();
-        assertThat(response.getResourceModel().getArn()).isEqualTo(virtualCluster.getArn());
+        assertThat(response.getResourceModel().getArn()).isEqualTo(virtualCluster.arn());
     }
 
     @Test
@@ -98,13 +120,15 @@ public class ReadHandlerTest {
             .desiredResourceState(ResourceModel.builder().id("virtualclusterId").build())
             .build();
 
-        VirtualCluster virtualCluster = new VirtualCluster();
-        virtualCluster.setState(VirtualClusterState.TERMINATED.toString());
-        DescribeVirtualClusterResult describeVirtualClusterResult = new DescribeVirtualClusterResult();
-        describeVirtualClusterResult.setVirtualCluster(virtualCluster);
-        doReturn(describeVirtualClusterResult)
-            .when(proxy)
-            .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
+        VirtualCluster virtualCluster = VirtualCluster.builder()
+            .state(VirtualClusterState.TERMINATED)
+            .build();
+        DescribeVirtualClusterResponse describeVirtualClusterResponse = DescribeVirtualClusterResponse.builder()
+            .virtualCluster(virtualCluster)
+            .build();
+        doReturn(describeVirtualClusterResponse)
+            .when(sdkClient)
+            .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         Assertions.assertThrows(CfnNotFoundException.class,
             () -> handler.handleRequest(proxy, request, null, logger));
@@ -119,10 +143,83 @@ public class ReadHandlerTest {
                 .build();
 
         doThrow(CfnNotFoundException.class)
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         Assertions.assertThrows(CfnNotFoundException.class,
                 () -> handler.handleRequest(proxy, request, null, logger));
     }
+
+    @Test
+    public void handleRequest_ReadBurst_ScannedIntoCache() {
+        final ReadHandler handler = new ReadHandler();
+
+        doAnswer(invocation -> DescribeVirtualClusterResponse.builder()
+                .virtualCluster(runningVirtualCluster(invocation.<DescribeVirtualClusterRequest>getArgument(0).id()))
+                .build())
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+        doReturn(ListVirtualClustersResponse.builder()
+                .virtualClusters(IntStream.rangeClosed(1, 8)
+                        .mapToObj(i -> runningVirtualCluster("id" + i))
+                        .collect(Collectors.toList()))
+                .build())
+                .when(sdkClient)
+                .listVirtualClusters(any(ListVirtualClustersRequest.class));
+
+        for (int i = 1; i <= 8; i++) {
+            final ProgressEvent<ResourceModel, CallbackContext> response
+                    = handler.handleRequest(proxy, readRequest("id" + i), null, logger);
+            assertThat(response.getResourceModel().getName()).isEqualTo("nameid" + i);
+        }
+
+        verify(sdkClient, times(Constants.READ_BURST_MISS_THRESHOLD - 1))
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+        verify(sdkClient, times(1))
+                .listVirtualClusters(any(ListVirtualClustersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReadBurstScanFails_FallsBackToDescribe() {
+        final ReadHandler handler = new ReadHandler();
+
+        doAnswer(invocation -> DescribeVirtualClusterResponse.builder()
+                .virtualCluster(runningVirtualCluster(invocation.<DescribeVirtualClusterRequest>getArgument(0).id()))
+                .build())
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+        doThrow(EmrContainersException.builder().message("not authorized to perform ListVirtualClusters").build())
+                .when(sdkClient)
+                .listVirtualClusters(any(ListVirtualClustersRequest.class));
+
+        for (int i = 1; i <= Constants.READ_BURST_MISS_THRESHOLD; i++) {
+            assertThat(handler.handleRequest(proxy, readRequest("id" + i), null, logger).getStatus())
+                    .isEqualTo(OperationStatus.SUCCESS);
+        }
+
+        verify(sdkClient, times(Constants.READ_BURST_MISS_THRESHOLD))
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+    }
+
+    private ResourceHandlerRequest<ResourceModel> readRequest(final String virtualClusterId) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().id(virtualClusterId).build())
+                .awsAccountId("123456789012")
+                .build();
+    }
+
+    private VirtualCluster runningVirtualCluster(final String virtualClusterId) {
+        return VirtualCluster.builder()
+                .id(virtualClusterId)
+                .name("name" + virtualClusterId)
+                .state(VirtualClusterState.RUNNING)
+                .containerProvider(Translator.translate(ContainerProvider.builder()
+                        .id("eksClusterId")
+                        .type("EKS")
+                        .info(ContainerInfo.builder()
+                                .eksInfo(EksInfo.builder().namespace("namespace" + virtualClusterId).build())
+                                .build())
+                        .build()))
+                .build();
+    }
 }
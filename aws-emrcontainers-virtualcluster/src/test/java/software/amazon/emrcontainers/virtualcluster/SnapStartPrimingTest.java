@@ -0,0 +1,43 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SnapStartPrimingTest {
+
+    @AfterEach
+    public void tearDown() {
+        ClientBuilder.reset();
+        VirtualClusterCache.getInstance().clear();
+        ReadBurstDetector.getInstance().clear();
+    }
+
+    @Test
+    public void prime_AgainstStub_LeavesNoCachedClusters() throws Exception {
+        SnapStartPriming.prime();
+
+        assertThat(VirtualClusterCache.getInstance().size()).isEqualTo(0);
+    }
+
+    @Test
+    public void prime_AgainstStub_LeavesSharedClientUntouched() throws Exception {
+        final FakeEmrContainers service = FakeEmrContainers.builder().build();
+        ClientBuilder.setClient(service);
+
+        SnapStartPriming.prime();
+
+        assertThat(ClientBuilder.getClient("us-east-1")).isSameAs(service);
+    }
+
+    @Test
+    public void afterRestore_DropsCachedClient() {
+        final FakeEmrContainers service = FakeEmrContainers.builder().build();
+        ClientBuilder.setClient(service);
+
+        new SnapStartPriming().afterRestore(null);
+
+        assertThat(ClientBuilder.getClient("us-east-1")).isNotSameAs(service);
+    }
+}
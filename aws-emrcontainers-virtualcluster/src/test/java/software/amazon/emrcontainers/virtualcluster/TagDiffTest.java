@@ -0,0 +1,51 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class TagDiffTest {
+
+    @Test
+    public void between_AddedChangedAndRemovedKeys() {
+        final TagDiff tagDiff = TagDiff.between(
+                ImmutableMap.of("same", "v", "changed", "old", "removed", "v", "aws:cloudformation:stack-name", "s"),
+                ImmutableMap.of("same", "v", "changed", "new", "added", "v"));
+
+        assertThat(tagDiff.getTagsToAdd()).containsOnly(entry("changed", "new"), entry("added", "v"));
+        assertThat(tagDiff.getTagKeysToRemove()).containsExactly("removed");
+        assertThat(tagDiff.isEmpty()).isFalse();
+    }
+
+    @Test
+    public void between_NullMaps_Empty() {
+        assertThat(TagDiff.between(null, null).isEmpty()).isTrue();
+        assertThat(TagDiff.between(ImmutableMap.of("k", "v"), ImmutableMap.of("k", "v")).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void batches_RespectBatchSize() {
+        final Map<String, String> existingTags = new HashMap<>();
+        final Map<String, String> desiredTags = new HashMap<>();
+        for (int i = 0; i < 120; i++) {
+            existingTags.put("old" + i, "v");
+            desiredTags.put("new" + i, "v");
+        }
+        final TagDiff tagDiff = TagDiff.between(existingTags, desiredTags);
+
+        final List<Map<String, String>> tagBatches = tagDiff.tagsToAddInBatchesOf(50);
+        assertThat(tagBatches).hasSize(3);
+        assertThat(tagBatches.get(0)).hasSize(50);
+        assertThat(tagBatches.get(2)).hasSize(20);
+
+        final List<List<String>> untagBatches = tagDiff.tagKeysToRemoveInBatchesOf(50);
+        assertThat(untagBatches).hasSize(3);
+        assertThat(untagBatches.get(2)).hasSize(20);
+    }
+}
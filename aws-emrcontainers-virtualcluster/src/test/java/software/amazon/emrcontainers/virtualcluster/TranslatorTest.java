@@ -0,0 +1,71 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+public class TranslatorTest {
+
+    @Test
+    public void toResourceModels_EqualContainerProviders_Shared() {
+        final List<ResourceModel> models = Translator.toResourceModels(Arrays.asList(
+                virtualCluster("1", "eks-a", "spark"),
+                virtualCluster("2", "eks-a", "spark"),
+                virtualCluster("3", "eks-b", "spark"),
+                virtualCluster("4", "eks-b", "hive")));
+
+        assertThat(models).extracting(ResourceModel::getId).containsExactly("1", "2", "3", "4");
+        assertThat(models.get(1).getContainerProvider()).isSameAs(models.get(0).getContainerProvider());
+        assertThat(models.get(2).getContainerProvider()).isNotSameAs(models.get(0).getContainerProvider());
+        assertThat(models.get(2).getContainerProvider().getInfo()).isSameAs(models.get(0).getContainerProvider().getInfo());
+        assertThat(models.get(2).getContainerProvider().getId()).isEqualTo("eks-b");
+        assertThat(models.get(3).getContainerProvider().getInfo().getEksInfo().getNamespace()).isEqualTo("hive");
+        assertThat(models.get(0).getTags()).containsExactly(Tag.builder().key("key").value("value1").build());
+    }
+
+    @Test
+    public void toResourceModels_NullOrEmpty_Empty() {
+        assertThat(Translator.toResourceModels(null)).isEmpty();
+        assertThat(Translator.toResourceModels(Arrays.asList())).isEmpty();
+    }
+
+    @Test
+    public void toTagMap_RoundTrip() {
+        assertThat(Translator.toTagMap(Translator.toTagSet(ImmutableMap.of("a", "1", "b", "2"))))
+                .containsOnly(entry("a", "1"), entry("b", "2"));
+        assertThat(Translator.toTagMap(null)).isEmpty();
+        assertThat(Translator.toTagSet(null)).isEmpty();
+    }
+
+    @Test
+    public void toTagMap_DuplicateKey_Throws() {
+        assertThatThrownBy(() -> Translator.toTagMap(ImmutableSet.of(
+                Tag.builder().key("a").value("1").build(),
+                Tag.builder().key("a").value("2").build())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private VirtualCluster virtualCluster(String id, String eksClusterId, String namespace) {
+        return VirtualCluster.builder()
+                .id(id)
+                .name("name" + id)
+                .arn("arn" + id)
+                .containerProvider(Translator.translate(ContainerProvider.builder()
+                        .id(eksClusterId)
+                        .type("EKS")
+                        .info(ContainerInfo.builder()
+                                .eksInfo(EksInfo.builder().namespace(namespace).build())
+                                .build())
+                        .build()))
+                .tags(ImmutableMap.of("key", "value" + id))
+                .build();
+    }
+}
@@ -1,19 +1,28 @@
 package software.amazon.emrcontainers.virtualcluster;
 
-import com.amazonaws.AmazonWebServiceRequest;
-import com.amazonaws.AmazonWebServiceResult;
-import com.amazonaws.services.emrcontainers.model.*;
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.emrcontainers.model.TagResourceRequest;
+import software.amazon.awssdk.services.emrcontainers.model.TagResourceResponse;
+import software.amazon.awssdk.services.emrcontainers.model.UntagResourceRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ValidationException;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
 import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.Assertions;
-import org.mockito.ArgumentCaptor;
-import org.mockito.ArgumentMatchers;
-import org.mockito.Captor;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,24 +30,24 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest {
 
-    @Mock
     private AmazonWebServicesClientProxy proxy;
 
     @Mock
-    private Logger logger;
+    private EmrContainersClient sdkClient;
 
-    @Captor
-    ArgumentCaptor<AmazonWebServiceRequest> amazonWebServiceRequestArgumentCaptor;
+    @Mock
+    private Logger logger;
 
     private final UpdateHandler handler = new UpdateHandler();
 
@@ -48,9 +57,18 @@ public class UpdateHandlerTest {
 
     @BeforeEach
     public void setup() {
-        proxy = mock(AmazonWebServicesClientProxy.class);
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                () -> TimeUnit.MINUTES.toMillis(15));
         logger = mock(Logger.class);
-        amazonWebServiceRequestArgumentCaptor = ArgumentCaptor.forClass(AmazonWebServiceRequest.class);
+        sdkClient = mock(EmrContainersClient.class);
+        ClientBuilder.setClient(sdkClient);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ClientBuilder.reset();
+        VirtualClusterCache.getInstance().clear();
     }
 
     @Test
@@ -62,9 +80,9 @@ public class UpdateHandlerTest {
                 .desiredResourceTags(null)
                 .build();
 
-        doReturn(getDescribeVirtualClusterResult(VirtualClusterState.RUNNING))
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
+        doReturn(getDescribeVirtualClusterResponse(VirtualClusterState.RUNNING))
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
@@ -89,8 +107,8 @@ public class UpdateHandlerTest {
             .build();
 
         doThrow(ResourceNotFoundException.class)
-            .when(proxy)
-            .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
+            .when(sdkClient)
+            .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         Assertions.assertThrows(CfnNotFoundException.class, () -> {
             handler.handleRequest(proxy, request, null, logger);
@@ -106,9 +124,9 @@ public class UpdateHandlerTest {
             .desiredResourceTags(null)
             .build();
 
-        doReturn(getDescribeVirtualClusterResult(VirtualClusterState.TERMINATED))
-            .when(proxy)
-            .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
+        doReturn(getDescribeVirtualClusterResponse(VirtualClusterState.TERMINATED))
+            .when(sdkClient)
+            .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         Assertions.assertThrows(CfnNotFoundException.class, () -> {
             handler.handleRequest(proxy, request, null, logger);
@@ -126,26 +144,25 @@ public class UpdateHandlerTest {
                 .desiredResourceTags(ImmutableMap.of("key1", "val1"))
                 .build();
 
-        doReturn(getDescribeVirtualClusterResult(VirtualClusterState.RUNNING))
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
+        doReturn(getDescribeVirtualClusterResponse(VirtualClusterState.RUNNING))
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
         validate(response);
 
-        verify(proxy, times(2))
-                .injectCredentialsAndInvoke(amazonWebServiceRequestArgumentCaptor.capture(), ArgumentMatchers.<Function<AmazonWebServiceRequest, DescribeVirtualClusterResult>>any());
+        assertThat(getRequestArguments(AwsRequest.class)).hasSize(2);
 
         // Verify tagging operations
-        List<TagResourceRequest> tagResourceRequestList = getRequestArguments(amazonWebServiceRequestArgumentCaptor, TagResourceRequest.class);
+        List<TagResourceRequest> tagResourceRequestList = getRequestArguments(TagResourceRequest.class);
         assertThat(tagResourceRequestList.size()).isEqualTo(1);
 
-        Map<String, String> addedTags =  tagResourceRequestList.get(0).getTags();
+        Map<String, String> addedTags =  tagResourceRequestList.get(0).tags();
         assertThat(addedTags.size()).isEqualTo(1);
         assertThat(addedTags.get("key1")).isEqualTo("val1");
 
-        List<UntagResourceRequest> untagResourceRequestList = getRequestArguments(amazonWebServiceRequestArgumentCaptor, UntagResourceRequest.class);
+        List<UntagResourceRequest> untagResourceRequestList = getRequestArguments(UntagResourceRequest.class);
         assertThat(untagResourceRequestList.size()).isEqualTo(0);
     }
 
@@ -159,24 +176,23 @@ public class UpdateHandlerTest {
                 .desiredResourceState(model)
                 .build();
 
-        doReturn(getDescribeVirtualClusterResult(VirtualClusterState.RUNNING, ImmutableMap.of("key1", "val1")))
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
+        doReturn(getDescribeVirtualClusterResponse(VirtualClusterState.RUNNING, ImmutableMap.of("key1", "val1")))
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
         validate(response);
 
-        verify(proxy, times(2))
-                .injectCredentialsAndInvoke(amazonWebServiceRequestArgumentCaptor.capture(), ArgumentMatchers.<Function<AmazonWebServiceRequest, DescribeVirtualClusterResult>>any());
+        assertThat(getRequestArguments(AwsRequest.class)).hasSize(2);
 
         // Verify tagging operations
-        List<TagResourceRequest> tagResourceRequestList = getRequestArguments(amazonWebServiceRequestArgumentCaptor, TagResourceRequest.class);
+        List<TagResourceRequest> tagResourceRequestList = getRequestArguments(TagResourceRequest.class);
         assertThat(tagResourceRequestList.size()).isEqualTo(0);
 
-        List<UntagResourceRequest> untagResourceRequestList = getRequestArguments(amazonWebServiceRequestArgumentCaptor, UntagResourceRequest.class);
+        List<UntagResourceRequest> untagResourceRequestList = getRequestArguments(UntagResourceRequest.class);
         assertThat(untagResourceRequestList.size()).isEqualTo(1);
-        List<String> removedTagKeys =  untagResourceRequestList.get(0).getTagKeys();
+        List<String> removedTagKeys =  untagResourceRequestList.get(0).tagKeys();
         assertThat(removedTagKeys.size()).isEqualTo(1);
         assertThat(removedTagKeys.get(0)).isEqualTo("key1");
     }
@@ -192,42 +208,238 @@ public class UpdateHandlerTest {
                 .desiredResourceTags(ImmutableMap.of("key1", "val1", "key4", "val4"))
                 .build();
 
-        doReturn(getDescribeVirtualClusterResult(VirtualClusterState.RUNNING, ImmutableMap.of("key1", "val1", "key2", "val2", "key3", "val3")))
-                .when(proxy)
-                .injectCredentialsAndInvoke(any(DescribeVirtualClusterRequest.class), ArgumentMatchers.<Function<DescribeVirtualClusterRequest, DescribeVirtualClusterResult>>any());
+        doReturn(getDescribeVirtualClusterResponse(VirtualClusterState.RUNNING, ImmutableMap.of("key1", "val1", "key2", "val2", "key3", "val3")))
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, null, logger);
 
         validate(response);
-        verify(proxy, times(3))
-                .injectCredentialsAndInvoke(amazonWebServiceRequestArgumentCaptor.capture(), ArgumentMatchers.<Function<AmazonWebServiceRequest, DescribeVirtualClusterResult>>any());
+        assertThat(getRequestArguments(AwsRequest.class)).hasSize(3);
 
         // Verify tagging operations
-        List<TagResourceRequest> tagResourceRequestList = getRequestArguments(amazonWebServiceRequestArgumentCaptor, TagResourceRequest.class);
+        List<TagResourceRequest> tagResourceRequestList = getRequestArguments(TagResourceRequest.class);
         assertThat(tagResourceRequestList.size()).isEqualTo(1);
 
-        Map<String, String> addedTags =  tagResourceRequestList.get(0).getTags();
+        Map<String, String> addedTags =  tagResourceRequestList.get(0).tags();
         assertThat(addedTags.size()).isEqualTo(1);
         assertThat(addedTags.get("key4")).isEqualTo("val4");
 
-        List<UntagResourceRequest> untagResourceRequestList = getRequestArguments(amazonWebServiceRequestArgumentCaptor, UntagResourceRequest.class);
+        List<UntagResourceRequest> untagResourceRequestList = getRequestArguments(UntagResourceRequest.class);
         assertThat(untagResourceRequestList.size()).isEqualTo(1);
-        List<String> removedTagKeys =  untagResourceRequestList.get(0).getTagKeys();
+        List<String> removedTagKeys =  untagResourceRequestList.get(0).tagKeys();
         assertThat(removedTagKeys.size()).isEqualTo(2);
         assertThat(removedTagKeys.contains("key2")).isTrue();
         assertThat(removedTagKeys.contains("key3")).isTrue();
     }
 
-    private DescribeVirtualClusterResult getDescribeVirtualClusterResult(VirtualClusterState virtualClusterState) {
-        return getDescribeVirtualClusterResult(virtualClusterState, Collections.emptyMap());
+    @Test
+    public void handleRequest_ChangedTagValue_RetaggedWithoutUntag() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(VIRTUAL_CLUSTER_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(ImmutableMap.of("key1", "newVal1", "key2", "val2"))
+                .build();
+
+        doReturn(getDescribeVirtualClusterResponse(VirtualClusterState.RUNNING, ImmutableMap.of("key1", "val1", "key2", "val2")))
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        validate(response);
+        assertThat(getRequestArguments(AwsRequest.class)).hasSize(2);
+
+        List<TagResourceRequest> tagResourceRequestList = getRequestArguments(TagResourceRequest.class);
+        assertThat(tagResourceRequestList.size()).isEqualTo(1);
+        assertThat(tagResourceRequestList.get(0).tags()).containsExactly(entry("key1", "newVal1"));
+
+        List<UntagResourceRequest> untagResourceRequestList = getRequestArguments(UntagResourceRequest.class);
+        assertThat(untagResourceRequestList.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void handleRequest_UntagFailsWhileTagging_ReportsNotFound() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(VIRTUAL_CLUSTER_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(ImmutableMap.of("key2", "val2"))
+                .build();
+
+        doReturn(getDescribeVirtualClusterResponse(VirtualClusterState.RUNNING, ImmutableMap.of("key1", "val1")))
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+        doThrow(ResourceNotFoundException.class)
+                .when(sdkClient)
+                .untagResource(any(UntagResourceRequest.class));
+
+        Assertions.assertThrows(CfnNotFoundException.class, () -> {
+            handler.handleRequest(proxy, request, null, logger);
+        });
+        verify(sdkClient, times(1))
+                .tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_PreviousStateKnown_SkipsDescribe() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(VIRTUAL_CLUSTER_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(ImmutableMap.of("key1", "val1", "key2", "val2"))
+                .previousResourceState(previousModel())
+                .previousResourceTags(ImmutableMap.of("key1", "val1"))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        validate(response);
+        verify(sdkClient, never())
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+        assertThat(getRequestArguments(AwsRequest.class)).hasSize(1);
+
+        List<TagResourceRequest> tagResourceRequestList = getRequestArguments(TagResourceRequest.class);
+        assertThat(tagResourceRequestList.size()).isEqualTo(1);
+        assertThat(tagResourceRequestList.get(0).resourceArn()).isEqualTo(VIRTUAL_CLUSTER_ARN);
+        assertThat(tagResourceRequestList.get(0).tags()).containsExactly(entry("key2", "val2"));
     }
 
-    @SuppressWarnings("unchecked")
-    private <T extends AmazonWebServiceRequest> List<T> getRequestArguments(ArgumentCaptor<AmazonWebServiceRequest> argumentCaptor, Class<T> cls) {
-        return argumentCaptor.getAllValues().stream()
-                .filter(request -> cls.isInstance(request))
-                .map(request -> (T) request)
+    @Test
+    public void handleRequest_PreviousStateStale_FallsBackToDescribe() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(VIRTUAL_CLUSTER_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(ImmutableMap.of("key1", "val1"))
+                .previousResourceState(previousModel())
+                .build();
+
+        doThrow(ResourceNotFoundException.class)
+                .doReturn(TagResourceResponse.builder().build())
+                .when(sdkClient)
+                .tagResource(any(TagResourceRequest.class));
+        doReturn(getDescribeVirtualClusterResponse(VirtualClusterState.RUNNING))
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        validate(response);
+        verify(sdkClient, times(1))
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+        verify(sdkClient, times(2))
+                .tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_PreviousStateKnown_TagCallRejected_ReturnsCfnInvalidRequestException() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(VIRTUAL_CLUSTER_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(ImmutableMap.of("key1", "val1"))
+                .previousResourceState(previousModel())
+                .build();
+
+        doThrow(ValidationException.class)
+                .when(sdkClient)
+                .tagResource(any(TagResourceRequest.class));
+
+        Assertions.assertThrows(CfnInvalidRequestException.class, () -> {
+            handler.handleRequest(proxy, request, null, logger);
+        });
+        verify(sdkClient, never())
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+    }
+
+    @Test
+    public void handleRequest_PreviousStateKnown_TerminatedClusterRejectsTags_ReturnsCfnNotFoundException() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(VIRTUAL_CLUSTER_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(ImmutableMap.of("key1", "val1", "key2", "val2"))
+                .previousResourceState(previousModel())
+                .previousResourceTags(ImmutableMap.of("key1", "val1"))
+                .build();
+
+        doThrow(ResourceNotFoundException.class)
+                .when(sdkClient)
+                .tagResource(any(TagResourceRequest.class));
+        doReturn(getDescribeVirtualClusterResponse(VirtualClusterState.TERMINATED))
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+
+        Assertions.assertThrows(CfnNotFoundException.class, () -> {
+            handler.handleRequest(proxy, request, null, logger);
+        });
+        verify(sdkClient, times(1))
+                .tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CachedDescriptionStale_DiffsAgainstFreshTags() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(VIRTUAL_CLUSTER_ID)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(ImmutableMap.of("key1", "val1"))
+                .build();
+
+        VirtualClusterCache.getInstance().put(VirtualClusterCache.key(null, VIRTUAL_CLUSTER_ID),
+                getDescribeVirtualClusterResponse(VirtualClusterState.RUNNING, ImmutableMap.of("key1", "val1")).virtualCluster());
+        doReturn(getDescribeVirtualClusterResponse(VirtualClusterState.RUNNING, ImmutableMap.of("key1", "val1", "key2", "val2")))
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        validate(response);
+        assertThat(getRequestArguments(AwsRequest.class)).hasSize(2);
+
+        List<UntagResourceRequest> untagResourceRequestList = getRequestArguments(UntagResourceRequest.class);
+        assertThat(untagResourceRequestList.size()).isEqualTo(1);
+        assertThat(untagResourceRequestList.get(0).tagKeys()).containsExactly("key2");
+    }
+
+    private ResourceModel previousModel() {
+        return ResourceModel.builder()
+                .id(VIRTUAL_CLUSTER_ID)
+                .name(VIRTUAL_CLUSTER_NAME)
+                .arn(VIRTUAL_CLUSTER_ARN)
+                .build();
+    }
+
+    private DescribeVirtualClusterResponse getDescribeVirtualClusterResponse(VirtualClusterState virtualClusterState) {
+        return getDescribeVirtualClusterResponse(virtualClusterState, Collections.emptyMap());
+    }
+
+    private <T extends AwsRequest> List<T> getRequestArguments(Class<T> cls) {
+        return mockingDetails(sdkClient).getInvocations().stream()
+                .flatMap(invocation -> Arrays.stream(invocation.getArguments()))
+                .filter(cls::isInstance)
+                .map(cls::cast)
                 .collect(Collectors.toList());
     }
 
@@ -246,16 +458,18 @@ public class UpdateHandlerTest {
         assertThat(model.getArn()).isEqualTo(VIRTUAL_CLUSTER_ARN);
     }
 
-    private DescribeVirtualClusterResult getDescribeVirtualClusterResult(VirtualClusterState virtualClusterState, Map<String, String> tags) {
-        VirtualCluster virtualCluster = new VirtualCluster();
-        virtualCluster.setId(VIRTUAL_CLUSTER_ID);
-        virtualCluster.setName(VIRTUAL_CLUSTER_NAME);
-        virtualCluster.setState(virtualClusterState.toString());
-        virtualCluster.setArn(VIRTUAL_CLUSTER_ARN);
-        virtualCluster.setTags(tags);
-
-        DescribeVirtualClusterResult describeVirtualClusterResult = new DescribeVirtualClusterResult();
-        describeVirtualClusterResult.setVirtualCluster(virtualCluster);
-        return describeVirtualClusterResult;
+    private DescribeVirtualClusterResponse getDescribeVirtualClusterResponse(VirtualClusterState virtualClusterState, Map<String, String> tags) {
+        VirtualCluster virtualCluster = VirtualCluster.builder()
+                .id(VIRTUAL_CLUSTER_ID)
+                .name(VIRTUAL_CLUSTER_NAME)
+                .state(virtualClusterState)
+                .arn(VIRTUAL_CLUSTER_ARN)
+                .tags(tags)
+                .build();
+
+        DescribeVirtualClusterResponse describeVirtualClusterResponse = DescribeVirtualClusterResponse.builder()
+                .virtualCluster(virtualCluster)
+                .build();
+        return describeVirtualClusterResponse;
     }
 }
@@ -0,0 +1,121 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.EmrContainersClient;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterResponse;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersRequest;
+import software.amazon.awssdk.services.emrcontainers.model.ListVirtualClustersResponse;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class VirtualClusterBatchReaderTest {
+
+    private EmrContainersClient sdkClient;
+    private VirtualClusterBatchReader batchReader;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                () -> TimeUnit.MINUTES.toMillis(15));
+        sdkClient = mock(EmrContainersClient.class);
+        batchReader = VirtualClusterBatchReader.builder()
+                .proxyClient(proxy.newProxy(() -> sdkClient))
+                .pageSize(2)
+                .build();
+    }
+
+    @Test
+    public void read_IdsInScan_ResolvedWithoutDescribe() {
+        doReturn(listResult("token", "1", "2"), listResult(null, "3"))
+                .when(sdkClient)
+                .listVirtualClusters(any(ListVirtualClustersRequest.class));
+
+        final Map<String, ResourceModel> models = batchReader.read(Arrays.asList("1", "3"));
+
+        assertThat(models.keySet()).containsExactlyInAnyOrder("1", "3");
+        assertThat(models.get("3").getName()).isEqualTo("name3");
+
+        ArgumentCaptor<ListVirtualClustersRequest> requestCaptor = ArgumentCaptor.forClass(ListVirtualClustersRequest.class);
+        verify(sdkClient, times(2)).listVirtualClusters(requestCaptor.capture());
+        assertThat(requestCaptor.getAllValues().get(1).nextToken()).isEqualTo("token");
+        verify(sdkClient, never()).describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+    }
+
+    @Test
+    public void read_AllIdsFound_StopsPaging() {
+        doReturn(listResult("token", "1", "2"))
+                .when(sdkClient)
+                .listVirtualClusters(any(ListVirtualClustersRequest.class));
+
+        final Map<String, ResourceModel> models = batchReader.read(Arrays.asList("2"));
+
+        assertThat(models.keySet()).containsExactly("2");
+        verify(sdkClient, times(1)).listVirtualClusters(any(ListVirtualClustersRequest.class));
+    }
+
+    @Test
+    public void read_IdsMissingFromScan_FallBackToDescribe() {
+        doReturn(listResult(null, "1"))
+                .when(sdkClient)
+                .listVirtualClusters(any(ListVirtualClustersRequest.class));
+        doReturn(DescribeVirtualClusterResponse.builder().virtualCluster(virtualCluster("4", VirtualClusterState.RUNNING)).build(),
+                DescribeVirtualClusterResponse.builder().virtualCluster(virtualCluster("5", VirtualClusterState.TERMINATED)).build())
+                .when(sdkClient)
+                .describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+
+        final Map<String, ResourceModel> models = batchReader.read(Arrays.asList("1", "4", "5"));
+
+        assertThat(models).containsKeys("1");
+        assertThat(models).hasSize(2);
+        verify(sdkClient, times(2)).describeVirtualCluster(any(DescribeVirtualClusterRequest.class));
+    }
+
+    @Test
+    public void readAll_ScansEveryPage() {
+        doReturn(listResult("token", "1", "2"), listResult(null, "3"))
+                .when(sdkClient)
+                .listVirtualClusters(any(ListVirtualClustersRequest.class));
+
+        assertThat(batchReader.readAll().keySet()).containsExactlyInAnyOrder("1", "2", "3");
+    }
+
+    private ListVirtualClustersResponse listResult(String nextToken, String... ids) {
+        return ListVirtualClustersResponse.builder()
+                .nextToken(nextToken)
+                .virtualClusters(Arrays.stream(ids)
+                        .map(id -> virtualCluster(id, VirtualClusterState.RUNNING))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private VirtualCluster virtualCluster(String id, VirtualClusterState state) {
+        return VirtualCluster.builder()
+                .id(id)
+                .name("name" + id)
+                .state(state)
+                .containerProvider(Translator.translate(ContainerProvider.builder()
+                        .id("eksId" + id)
+                        .type("EKS")
+                        .info(ContainerInfo.builder()
+                                .eksInfo(EksInfo.builder().namespace("namespace" + id).build())
+                                .build())
+                        .build()))
+                .build();
+    }
+}
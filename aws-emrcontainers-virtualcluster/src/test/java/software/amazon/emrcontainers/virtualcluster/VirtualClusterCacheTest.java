@@ -0,0 +1,73 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.VirtualCluster;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualClusterCacheTest {
+
+    @Test
+    public void getOrLoad_SecondCall_ServedFromCache() {
+        final VirtualClusterCache cache = new VirtualClusterCache(60000L, 10);
+        final AtomicInteger loads = new AtomicInteger();
+        final String key = VirtualClusterCache.key("123456789012", "id1");
+
+        cache.getOrLoad(key, () -> virtualCluster("id1", loads));
+        final VirtualCluster cached = cache.getOrLoad(key, () -> virtualCluster("id1", loads));
+
+        assertThat(cached.id()).isEqualTo("id1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_ExpiredEntry_Missed() {
+        final VirtualClusterCache cache = new VirtualClusterCache(0L, 10);
+        final String key = VirtualClusterCache.key("123456789012", "id1");
+        cache.put(key, virtualCluster("id1", new AtomicInteger()));
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void invalidate_RemovesEntry() {
+        final VirtualClusterCache cache = new VirtualClusterCache(60000L, 10);
+        final String key = VirtualClusterCache.key("123456789012", "id1");
+        cache.put(key, virtualCluster("id1", new AtomicInteger()));
+
+        cache.invalidate(key);
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    public void put_OverCapacity_EvictsLeastRecentlyUsed() {
+        final VirtualClusterCache cache = new VirtualClusterCache(60000L, 2);
+        cache.put("a", virtualCluster("a", new AtomicInteger()));
+        cache.put("b", virtualCluster("b", new AtomicInteger()));
+        cache.get("a");
+        cache.put("c", virtualCluster("c", new AtomicInteger()));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    public void key_SameIdInDifferentAccounts_Distinct() {
+        assertThat(VirtualClusterCache.key("111111111111", "id1"))
+                .isNotEqualTo(VirtualClusterCache.key("222222222222", "id1"));
+        assertThat(VirtualClusterCache.key("111111111111", null)).isNull();
+    }
+
+    private VirtualCluster virtualCluster(String id, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return VirtualCluster.builder().id(id).build();
+    }
+}
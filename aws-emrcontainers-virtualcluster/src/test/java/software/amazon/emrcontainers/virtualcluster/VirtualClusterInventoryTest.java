@@ -0,0 +1,139 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.CreateVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DeleteVirtualClusterRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualClusterInventoryTest {
+    private static final long CREATION_STALENESS_MILLIS = 1000L;
+    private static final long DELETION_STALENESS_MILLIS = 10 * 1000L;
+
+    @TempDir
+    Path directory;
+
+    private FakeEmrContainers service;
+    private AmazonWebServicesClientProxy proxy;
+    private AtomicLong now;
+
+    @BeforeEach
+    public void setup() {
+        service = FakeEmrContainers.builder().maxPageSize(2).build();
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                () -> TimeUnit.MINUTES.toMillis(15));
+        now = new AtomicLong(1000000L);
+    }
+
+    @Test
+    public void read_WithinStalenessWindow_ServedFromSnapshot() {
+        final String id = create("namespace1");
+        create("namespace2");
+        create("namespace3");
+        final VirtualClusterInventory inventory = inventory();
+        final long callsBeforeScan = service.getCalls();
+
+        assertThat(inventory.read(id).getName()).isEqualTo("name");
+        final long callsAfterScan = service.getCalls();
+        assertThat(callsAfterScan - callsBeforeScan).isEqualTo(2L);
+
+        assertThat(inventory.list(null)).hasSize(3);
+        assertThat(inventory.read("unknown")).isNull();
+        assertThat(service.getCalls()).isEqualTo(callsAfterScan);
+    }
+
+    @Test
+    public void list_AfterCreationStalenessWindow_AddsNewClustersIncrementally() {
+        final String deletedId = create("namespace1");
+        final VirtualClusterInventory inventory = inventory();
+        assertThat(inventory.list(null)).hasSize(1);
+
+        final String createdId = create("namespace2");
+        service.deleteVirtualCluster(DeleteVirtualClusterRequest.builder().id(deletedId).build());
+        now.addAndGet(CREATION_STALENESS_MILLIS);
+
+        // Listing by creation time picks up the new cluster but cannot see the deletion until the full scan.
+        assertThat(inventory.list(null)).extracting(ResourceModel::getId).containsExactly(deletedId, createdId);
+
+        now.addAndGet(DELETION_STALENESS_MILLIS);
+        assertThat(inventory.list(null)).extracting(ResourceModel::getId).containsExactly(createdId);
+    }
+
+    @Test
+    public void list_ContainerProviderFilter() {
+        final String id = create("namespace1");
+        final CreateVirtualClusterRequest otherProviderRequest = createRequest("namespace2");
+        service.createVirtualCluster(otherProviderRequest.toBuilder()
+                .containerProvider(otherProviderRequest.containerProvider().toBuilder().id("other-eks-cluster").build())
+                .build());
+
+        assertThat(inventory().list(ContainerProvider.builder().id("eks-cluster").type("EKS").build()))
+                .extracting(ResourceModel::getId)
+                .containsExactly(id);
+    }
+
+    @Test
+    public void current_PersistedSnapshot_ReusedByNextInventory() {
+        final String id = create("namespace1");
+        final VirtualClusterInventory inventory = inventory();
+        inventory.current();
+        assertThat(Files.exists(inventory.file())).isTrue();
+        final long callsAfterScan = service.getCalls();
+
+        final ResourceModel model = inventory().read(id);
+
+        assertThat(model.getContainerProvider().getInfo().getEksInfo().getNamespace()).isEqualTo("namespace1");
+        assertThat(service.getCalls()).isEqualTo(callsAfterScan);
+    }
+
+    @Test
+    public void current_UnreadableFile_FullScan() throws Exception {
+        create("namespace1");
+        final VirtualClusterInventory inventory = inventory();
+        Files.write(inventory.file(), "{".getBytes());
+        final long callsBeforeScan = service.getCalls();
+
+        assertThat(inventory.list(null)).hasSize(1);
+        assertThat(service.getCalls() - callsBeforeScan).isEqualTo(1L);
+    }
+
+    private VirtualClusterInventory inventory() {
+        return VirtualClusterInventory.builder()
+                .proxyClient(proxy.newProxy(() -> service))
+                .awsAccountId("123456789012")
+                .region("us-east-1")
+                .creationStalenessMillis(CREATION_STALENESS_MILLIS)
+                .deletionStalenessMillis(DELETION_STALENESS_MILLIS)
+                .directory(directory)
+                .clock(now::get)
+                .build();
+    }
+
+    private String create(final String namespace) {
+        return service.createVirtualCluster(createRequest(namespace)).id();
+    }
+
+    private static CreateVirtualClusterRequest createRequest(final String namespace) {
+        return CreateVirtualClusterRequest.builder()
+                .name("name")
+                .containerProvider(Translator.translate(ContainerProvider.builder()
+                        .id("eks-cluster")
+                        .type("EKS")
+                        .info(ContainerInfo.builder()
+                                .eksInfo(EksInfo.builder().namespace(namespace).build())
+                                .build())
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package software.amazon.emrcontainers.virtualcluster;
+
+import software.amazon.awssdk.services.emrcontainers.model.CreateVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.DescribeVirtualClusterRequest;
+import software.amazon.awssdk.services.emrcontainers.model.VirtualClusterState;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualClusterReaperTest {
+
+    private FakeEmrContainers service;
+    private AmazonWebServicesClientProxy proxy;
+
+    @BeforeEach
+    public void setup() {
+        service = FakeEmrContainers.builder().terminatingMillis(50L).maxPageSize(2).build();
+        proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKeyId", "secretAccessKey", "sessionToken"),
+                () -> TimeUnit.MINUTES.toMillis(15));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        VirtualClusterCache.getInstance().clear();
+    }
+
+    @Test
+    public void reap_ArrestedAndTaggedOrphans_TrackedToTerminated() throws InterruptedException {
+        final String arrestedId = create("eks-a", "namespace1", Collections.emptyMap());
+        final String otherArrestedId = create("eks-b", "namespace2", Collections.emptyMap());
+        final String orphanId = create("eks-a", "namespace3", ImmutableMap.of("tenant", "deleted"));
+        final String runningId = create("eks-a", "namespace4", ImmutableMap.of("tenant", "active"));
+        service.arrest(arrestedId);
+        service.arrest(otherArrestedId);
+
+        final VirtualClusterReaper.Report report = reaper(ImmutableMap.of("tenant", "deleted")).reap();
+
+        assertThat(report.getResults()).extracting(VirtualClusterReaper.Result::getVirtualClusterId)
+                .containsExactly(arrestedId, otherArrestedId, orphanId);
+        assertThat(report.count(VirtualClusterReaper.Outcome.TERMINATED)).isEqualTo(3L);
+        assertThat(state(arrestedId)).isEqualTo(VirtualClusterState.TERMINATED);
+        assertThat(state(orphanId)).isEqualTo(VirtualClusterState.TERMINATED);
+        assertThat(state(runningId)).isEqualTo(VirtualClusterState.RUNNING);
+    }
+
+    @Test
+    public void reap_WithoutOrphanTags_OnlyArrested() throws InterruptedException {
+        final String arrestedId = create("eks-a", "namespace1", Collections.emptyMap());
+        final String runningId = create("eks-a", "namespace2", ImmutableMap.of("tenant", "deleted"));
+        service.arrest(arrestedId);
+
+        final VirtualClusterReaper.Report report = reaper(Collections.emptyMap()).reap();
+
+        assertThat(report.getResults()).extracting(VirtualClusterReaper.Result::getVirtualClusterId)
+                .containsExactly(arrestedId);
+        assertThat(state(runningId)).isEqualTo(VirtualClusterState.RUNNING);
+    }
+
+    @Test
+    public void reap_DeadlinePassed_TimedOut() throws InterruptedException {
+        final String arrestedId = create("eks-a", "namespace1", Collections.emptyMap());
+        service.arrest(arrestedId);
+
+        final VirtualClusterReaper.Report report = VirtualClusterReaper.builder()
+                .proxyClient(proxy.newProxy(() -> service))
+                .pollIntervalMillis(20L)
+                .timeoutMillis(10L)
+                .build()
+                .reap();
+
+        assertThat(report.count(VirtualClusterReaper.Outcome.TIMED_OUT)).isEqualTo(1L);
+        assertThat(report.getPollCalls()).isEqualTo(0);
+    }
+
+    private VirtualClusterReaper reaper(final Map<String, String> orphanTags) {
+        return VirtualClusterReaper.builder()
+                .proxyClient(proxy.newProxy(() -> service))
+                .awsAccountId("123456789012")
+                .orphanTags(orphanTags)
+                .concurrency(2)
+                .pollIntervalMillis(20L)
+                .build();
+    }
+
+    private String create(final String eksClusterId, final String namespace, final Map<String, String> tags) {
+        return service.createVirtualCluster(CreateVirtualClusterRequest.builder()
+                .name("name")
+                .tags(tags)
+                .containerProvider(Translator.translate(ContainerProvider.builder()
+                        .id(eksClusterId)
+                        .type("EKS")
+                        .info(ContainerInfo.builder()
+                                .eksInfo(EksInfo.builder().namespace(namespace).build())
+                                .build())
+                        .build()))
+                .build())
+                .id();
+    }
+
+    private VirtualClusterState state(final String id) {
+        return service.describeVirtualCluster(DescribeVirtualClusterRequest.builder().id(id).build()).virtualCluster().state();
+    }
+}